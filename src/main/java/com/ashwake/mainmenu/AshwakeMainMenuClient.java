@@ -3,6 +3,9 @@ package com.ashwake.mainmenu;
 import com.ashwake.mainmenu.client.branding.AshwakeWindowBranding;
 import com.ashwake.mainmenu.client.screen.AshwakeSettingsScreen;
 import com.ashwake.mainmenu.client.compat.BlurCompat;
+import com.ashwake.mainmenu.client.render.AshwakeFlowField;
+import com.ashwake.mainmenu.client.render.AshwakeTextureVariants;
+import com.ashwake.mainmenu.client.render.AshwakeUiSkin;
 import com.ashwake.mainmenu.config.AshwakeClientConfig;
 import com.ashwake.mainmenu.internal.AshwakeMenuApiImpl;
 import net.minecraft.client.Minecraft;
@@ -34,8 +37,12 @@ public final class AshwakeMainMenuClient {
 
     @SubscribeEvent
     static void onRegisterClientReloadListeners(RegisterClientReloadListenersEvent event) {
-        event.registerReloadListener((ResourceManagerReloadListener) resourceManager ->
-                AshwakeMenuApiImpl.getInstance().invalidateChangelogCache("resource reload"));
+        event.registerReloadListener((ResourceManagerReloadListener) resourceManager -> {
+            AshwakeUiSkin.onResourceReload(resourceManager);
+            AshwakeMenuApiImpl.getInstance().invalidateChangelogCache("resource reload");
+        });
+        event.registerReloadListener(AshwakeTextureVariants.reloadListener());
+        event.registerReloadListener(AshwakeFlowField.reloadListener());
     }
 
     @SubscribeEvent
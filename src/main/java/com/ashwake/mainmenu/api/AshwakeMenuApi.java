@@ -1,9 +1,11 @@
 package com.ashwake.mainmenu.api;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface AshwakeMenuApi {
-    String API_VERSION = "1.0.0";
+    String API_VERSION = "1.2.0";
 
     static AshwakeMenuApi get() {
         return AshwakeMenuApiProvider.get();
@@ -23,10 +25,26 @@ public interface AshwakeMenuApi {
 
     void publishChangelogEntry(ChangelogEntry entry);
 
+    default void registerParticleEmitter(ParticleEmitterSpec spec) {
+    }
+
+    default void unregisterParticleEmitter(String id) {
+    }
+
     default AggregatedChangelog getAggregatedChangelog() {
         return AggregatedChangelog.empty();
     }
 
+    // Starts aggregation off-thread if needed; completes immediately when the cached changelog is current.
+    default CompletableFuture<AggregatedChangelog> getAggregatedChangelogAsync() {
+        return CompletableFuture.completedFuture(getAggregatedChangelog());
+    }
+
+    // Never blocks: empty while aggregation is still running, which it also kicks off.
+    default Optional<AggregatedChangelog> getAggregatedChangelogIfReady() {
+        return Optional.of(getAggregatedChangelog());
+    }
+
     default MenuContext getMenuContext() {
         MenuState state = getMenuState();
         return new MenuContext(state.currentScreenId(), state.onboardingCompleted(), state.badgeText());
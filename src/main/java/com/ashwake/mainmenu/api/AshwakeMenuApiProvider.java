@@ -38,6 +38,14 @@ public final class AshwakeMenuApiProvider {
         public void publishChangelogEntry(ChangelogEntry entry) {
         }
 
+        @Override
+        public void registerParticleEmitter(ParticleEmitterSpec spec) {
+        }
+
+        @Override
+        public void unregisterParticleEmitter(String id) {
+        }
+
         @Override
         public AggregatedChangelog getAggregatedChangelog() {
             return AggregatedChangelog.empty();
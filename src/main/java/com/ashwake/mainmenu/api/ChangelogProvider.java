@@ -2,5 +2,7 @@ package com.ashwake.mainmenu.api;
 
 @FunctionalInterface
 public interface ChangelogProvider {
+    // Called from a background worker, never the render thread: aggregation runs off-thread since API 1.2.0.
+    // Implementations must not touch render-thread-only state such as the current screen or GL resources.
     void contribute(ChangelogCollector collector);
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.ashwake.mainmenu.api;
+
+@FunctionalInterface
+public interface ParticleEmitter {
+    void emit(ParticleSpawner spawner, float dtSeconds, int screenWidth, int screenHeight);
+}
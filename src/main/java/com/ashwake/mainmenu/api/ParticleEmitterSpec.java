@@ -0,0 +1,20 @@
+package com.ashwake.mainmenu.api;
+
+import java.util.Objects;
+
+public record ParticleEmitterSpec(
+        String id,
+        int particleBudget,
+        int simBudgetMicros,
+        float gravity,
+        ParticleEmitter emitter) {
+
+    public static final int MAX_PARTICLE_BUDGET = 2048;
+
+    public ParticleEmitterSpec {
+        Objects.requireNonNull(id, "id");
+        Objects.requireNonNull(emitter, "emitter");
+        particleBudget = Math.max(1, Math.min(MAX_PARTICLE_BUDGET, particleBudget));
+        simBudgetMicros = Math.max(50, simBudgetMicros);
+    }
+}
@@ -0,0 +1,8 @@
+package com.ashwake.mainmenu.api;
+
+public interface ParticleSpawner {
+    // Returns false once the emitter's particle budget is used up; further spawns this frame are ignored.
+    boolean spawn(float x, float y, float velocityX, float velocityY, float lifeSeconds, float size, int argb);
+
+    int remainingBudget();
+}
@@ -4,6 +4,10 @@ import com.ashwake.mainmenu.AshwakeMainMenuMod;
 import com.ashwake.mainmenu.client.branding.AshwakeWindowBranding;
 import com.ashwake.mainmenu.client.compat.BlurCompat;
 import com.ashwake.mainmenu.client.overlay.AshwakeLoadingOverlay;
+import com.ashwake.mainmenu.client.render.AshwakeAnimationClock;
+import com.ashwake.mainmenu.client.render.AshwakeBackgroundRenderer;
+import com.ashwake.mainmenu.client.render.AshwakeHoverParticles;
+import com.ashwake.mainmenu.client.render.AshwakeTextureResidency;
 import com.ashwake.mainmenu.client.screen.AshwakeCreateWorldScreen;
 import com.ashwake.mainmenu.client.screen.AshwakeMainMenuScreen;
 import com.ashwake.mainmenu.client.screen.AshwakeMultiplayerScreen;
@@ -14,6 +18,7 @@ import com.ashwake.mainmenu.internal.AshwakeMenuApiImpl;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.screens.LoadingOverlay;
 import net.minecraft.client.gui.screens.Overlay;
+import net.minecraft.client.gui.screens.PauseScreen;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.client.gui.screens.TitleScreen;
 import net.minecraft.client.gui.screens.worldselection.CreateWorldScreen;
@@ -35,6 +40,10 @@ public final class AshwakeClientHooks {
             return;
         }
 
+        if (incoming instanceof TitleScreen || incoming instanceof PauseScreen) {
+            AshwakeTextureResidency.prefetch(incoming.getClass().getSimpleName());
+        }
+
         if (incoming instanceof TitleScreen && AshwakeClientConfig.enableMenuReplacement()) {
             event.setNewScreen(new AshwakeMainMenuScreen());
             BlurCompat.onAshwakeScreenOpen();
@@ -59,6 +68,18 @@ public final class AshwakeClientHooks {
         AshwakeMenuApiImpl.getInstance().updateMenuState(incoming.getClass().getName());
     }
 
+    @SubscribeEvent
+    public static void onScreenInit(ScreenEvent.Init.Post event) {
+        // Buttons are rebuilt on init and resize; particles of the discarded ones should not linger.
+        AshwakeHoverParticles.shared().clear();
+    }
+
+    @SubscribeEvent
+    public static void onScreenRenderPre(ScreenEvent.Render.Pre event) {
+        AshwakeAnimationClock.update(Minecraft.getInstance());
+        AshwakeHoverParticles.shared().beginFrame();
+    }
+
     @SubscribeEvent
     public static void onScreenClosing(ScreenEvent.Closing event) {
         if (event.getScreen() instanceof AshwakeScreenBase
@@ -76,7 +97,10 @@ public final class AshwakeClientHooks {
             return;
         }
 
+        AshwakeAnimationClock.update(minecraft);
         AshwakeWindowBranding.onClientTick(minecraft);
+        AshwakeBackgroundRenderer.shared().onClientTick(minecraft);
+        AshwakeTextureResidency.onClientTick(minecraft);
 
         Overlay overlay = minecraft.getOverlay();
         if (!(overlay instanceof LoadingOverlay) || overlay instanceof AshwakeLoadingOverlay) {
@@ -4,6 +4,8 @@ import com.ashwake.mainmenu.AshwakeMainMenuMod;
 import com.ashwake.mainmenu.api.AggregatedChangelog;
 import com.ashwake.mainmenu.api.AshwakeMenuApi;
 import com.ashwake.mainmenu.api.ChangelogEntry;
+import com.ashwake.mainmenu.config.AshwakeClientConfig;
+import com.ashwake.mainmenu.config.AshwakeClientConfig.ChangelogMode;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
@@ -13,6 +15,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import net.minecraft.client.Minecraft;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.resources.Resource;
@@ -28,11 +32,26 @@ public final class AshwakeChangelogLoader {
             "Mod Updates",
             "Other");
 
-    public LoadedChangelog load() {
-        String markdown = readLocalMarkdown().orElse("");
-        Map<String, List<String>> sections = parseLocalSections(markdown);
-        AggregatedChangelog aggregated = AshwakeMenuApi.get().getAggregatedChangelog();
+    // Never blocks on mod changelog aggregation; falls back to the local sections alone while it is still running.
+    public LoadedChangelog loadCached() {
+        String markdown = readMarkdown();
+        return AshwakeMenuApi.get().getAggregatedChangelogIfReady()
+                .map(aggregated -> assemble(markdown, aggregated, true))
+                .orElseGet(() -> assemble(markdown, AggregatedChangelog.empty(), false));
+    }
+
+    // Markdown is read on the executor once aggregation completes, so a remote copy that arrived meanwhile is not lost.
+    public CompletableFuture<LoadedChangelog> loadAsync(Executor executor) {
+        return aggregatedOrEmpty().thenApplyAsync(aggregated -> assemble(readMarkdown(), aggregated, true), executor);
+    }
 
+    // A failed aggregation (already logged by the API) still completes, leaving the local sections alone.
+    private static CompletableFuture<AggregatedChangelog> aggregatedOrEmpty() {
+        return AshwakeMenuApi.get().getAggregatedChangelogAsync().exceptionally(throwable -> AggregatedChangelog.empty());
+    }
+
+    private LoadedChangelog assemble(String markdown, AggregatedChangelog aggregated, boolean complete) {
+        Map<String, List<String>> sections = parseLocalSections(markdown);
         for (ChangelogEntry entry : aggregated.entries()) {
             String category = normalizeCategory(entry.categoryEnum().displayName());
             sections.computeIfAbsent(category, key -> new ArrayList<>()).add(formatEntryLine(entry));
@@ -40,7 +59,19 @@ public final class AshwakeChangelogLoader {
 
         String version = aggregated.packVersion().isBlank() ? "latest" : aggregated.packVersion();
         boolean hasConfiguredContent = !markdown.isBlank() || !aggregated.entries().isEmpty();
-        return new LoadedChangelog(version, sections, hasConfiguredContent);
+        return new LoadedChangelog(version, sections, hasConfiguredContent, complete);
+    }
+
+    // REMOTE_OK serves the cached remote copy when there is one; the bundled markdown covers every other case.
+    private String readMarkdown() {
+        if (AshwakeClientConfig.changelogMode() == ChangelogMode.REMOTE_OK) {
+            Optional<String> remote = AshwakeRemoteChangelog.shared()
+                    .current(AshwakeClientConfig.changelogRemoteUrl(), AshwakeClientConfig.changelogCacheTtlHours());
+            if (remote.isPresent() && !remote.get().isBlank()) {
+                return remote.get();
+            }
+        }
+        return readLocalMarkdown().orElse("");
     }
 
     private Optional<String> readLocalMarkdown() {
@@ -63,40 +94,33 @@ public final class AshwakeChangelogLoader {
             sections.put(category, new ArrayList<>());
         }
 
-        String currentCategory = DEFAULT_CATEGORIES.getFirst();
         if (markdown.isBlank()) {
             return sections;
         }
 
-        for (String rawLine : markdown.split("\\R")) {
-            String line = rawLine.trim();
-            if (line.isEmpty()) {
-                continue;
-            }
+        AshwakeMarkdownScanner.scan(markdown, new AshwakeMarkdownScanner.Visitor() {
+            private List<String> current = sections.get(DEFAULT_CATEGORIES.getFirst());
 
-            if (line.startsWith("## ")) {
-                currentCategory = normalizeCategory(line.substring(3).trim());
-                sections.computeIfAbsent(currentCategory, key -> new ArrayList<>());
-                continue;
+            @Override
+            public void section(String title) {
+                current = sections.computeIfAbsent(normalizeCategory(title), key -> new ArrayList<>());
             }
 
-            if (line.startsWith("# ")) {
-                continue;
+            @Override
+            public void bullet(String text) {
+                current.add("- " + text);
             }
 
-            if (line.startsWith("- ") || line.startsWith("* ")) {
-                sections.get(currentCategory).add(line.replaceFirst("^[*-]\\s*", "- "));
-                continue;
+            @Override
+            public void numbered(String line) {
+                current.add(line);
             }
 
-            if (line.matches("^\\d+\\.\\s+.*")) {
-                sections.get(currentCategory).add(line);
-                continue;
+            @Override
+            public void paragraph(String text) {
+                current.add("- " + text);
             }
-
-            sections.get(currentCategory).add("- " + line);
-        }
-
+        });
         return sections;
     }
 
@@ -111,16 +135,7 @@ public final class AshwakeChangelogLoader {
     }
 
     private static String stripMarkdown(String value) {
-        return value.replace("`", "")
-                .replace("**", "")
-                .replace("__", "")
-                .replace("*", "")
-                .replace("_", "")
-                .replace("[", "")
-                .replace("]", "")
-                .replace("(", "")
-                .replace(")", "")
-                .trim();
+        return AshwakeMarkdownScanner.stripInline(value);
     }
 
     private static String normalizeCategory(String category) {
@@ -147,6 +162,7 @@ public final class AshwakeChangelogLoader {
     public record LoadedChangelog(
             String version,
             Map<String, List<String>> sections,
-            boolean hasConfiguredContent) {
+            boolean hasConfiguredContent,
+            boolean complete) {
     }
 }
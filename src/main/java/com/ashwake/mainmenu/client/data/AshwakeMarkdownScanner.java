@@ -0,0 +1,200 @@
+package com.ashwake.mainmenu.client.data;
+
+import java.io.IOException;
+import java.io.Reader;
+
+// Single-pass line scanner for the small markdown subset used by the changelog and FAQ. No regex, no line arrays:
+// each line is classified in place and reported to a Visitor.
+public final class AshwakeMarkdownScanner {
+    private static final int READ_BUFFER = 8192;
+
+    private AshwakeMarkdownScanner() {
+    }
+
+    public static void scan(CharSequence text, Visitor visitor) {
+        LineSink sink = new LineSink(visitor);
+        int length = text.length();
+        int lineStart = 0;
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (!isLineBreak(c)) {
+                i++;
+                continue;
+            }
+            sink.line(text, lineStart, i);
+            i += c == '\r' && i + 1 < length && text.charAt(i + 1) == '\n' ? 2 : 1;
+            lineStart = i;
+        }
+        if (lineStart < length) {
+            sink.line(text, lineStart, length);
+        }
+    }
+
+    public static void scan(Reader reader, Visitor visitor) throws IOException {
+        LineSink sink = new LineSink(visitor);
+        StringBuilder line = new StringBuilder(128);
+        char[] buffer = new char[READ_BUFFER];
+        boolean afterCarriageReturn = false;
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                char c = buffer[i];
+                if (afterCarriageReturn) {
+                    afterCarriageReturn = false;
+                    if (c == '\n') {
+                        continue;
+                    }
+                }
+                if (!isLineBreak(c)) {
+                    line.append(c);
+                    continue;
+                }
+                sink.line(line, 0, line.length());
+                line.setLength(0);
+                afterCarriageReturn = c == '\r';
+            }
+        }
+        if (!line.isEmpty()) {
+            sink.line(line, 0, line.length());
+        }
+    }
+
+    // Removes inline emphasis, code and link punctuation in one pass.
+    public static String stripInline(String value) {
+        StringBuilder out = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean markup = c == '`' || c == '*' || c == '_' || c == '[' || c == ']' || c == '(' || c == ')';
+            if (markup && out == null) {
+                out = new StringBuilder(value.length());
+                out.append(value, 0, i);
+            } else if (!markup && out != null) {
+                out.append(c);
+            }
+        }
+        return (out == null ? value : out.toString()).trim();
+    }
+
+    // Text after a leading "-" or "*" marker and its whitespace; the line itself when there is no marker.
+    public static String stripBulletMarker(String line) {
+        if (line.isEmpty() || (line.charAt(0) != '-' && line.charAt(0) != '*')) {
+            return line;
+        }
+        int start = 1;
+        while (start < line.length() && isSpace(line.charAt(start))) {
+            start++;
+        }
+        return line.substring(start);
+    }
+
+    // Same set as the \s regex class.
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    // Same terminators as the \R regex class.
+    private static boolean isLineBreak(char c) {
+        return c == '\n' || c == '\r' || c == '\u000B' || c == '\u000C' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    public interface Visitor {
+        // "# " lines.
+        default void title(String text) {
+        }
+
+        // "## " lines.
+        default void section(String title) {
+        }
+
+        // "- " and "* " lines; text excludes the marker.
+        default void bullet(String text) {
+        }
+
+        // "1. " style lines, passed through whole.
+        default void numbered(String line) {
+            paragraph(line);
+        }
+
+        default void paragraph(String text) {
+        }
+
+        // Blank lines between content; trailing blank lines at the end of the document are not reported.
+        default void blank() {
+        }
+    }
+
+    private static final class LineSink {
+        private final Visitor visitor;
+        private int pendingEmptyLines;
+
+        LineSink(Visitor visitor) {
+            this.visitor = visitor;
+        }
+
+        void line(CharSequence text, int start, int end) {
+            if (start == end) {
+                pendingEmptyLines++;
+                return;
+            }
+            for (; pendingEmptyLines > 0; pendingEmptyLines--) {
+                visitor.blank();
+            }
+
+            // Trim with String.trim semantics.
+            while (start < end && text.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && text.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            int length = end - start;
+            if (length == 0) {
+                visitor.blank();
+                return;
+            }
+
+            char first = text.charAt(start);
+            if (first == '#' && length >= 2) {
+                char second = text.charAt(start + 1);
+                if (second == '#' && length >= 3 && text.charAt(start + 2) == ' ') {
+                    visitor.section(trimmed(text, start + 3, end));
+                    return;
+                }
+                if (second == ' ') {
+                    visitor.title(trimmed(text, start + 2, end));
+                    return;
+                }
+            }
+            if ((first == '-' || first == '*') && length >= 2 && text.charAt(start + 1) == ' ') {
+                int body = start + 1;
+                while (body < end && isSpace(text.charAt(body))) {
+                    body++;
+                }
+                visitor.bullet(text.subSequence(body, end).toString());
+                return;
+            }
+            if (isNumbered(text, start, end)) {
+                visitor.numbered(text.subSequence(start, end).toString());
+                return;
+            }
+            visitor.paragraph(text.subSequence(start, end).toString());
+        }
+
+        // digits, '.', then at least one whitespace character.
+        private static boolean isNumbered(CharSequence text, int start, int end) {
+            int i = start;
+            while (i < end && text.charAt(i) >= '0' && text.charAt(i) <= '9') {
+                i++;
+            }
+            return i > start && i + 1 < end && text.charAt(i) == '.' && isSpace(text.charAt(i + 1));
+        }
+
+        private static String trimmed(CharSequence text, int start, int end) {
+            while (start < end && text.charAt(start) <= ' ') {
+                start++;
+            }
+            return text.subSequence(start, end).toString();
+        }
+    }
+}
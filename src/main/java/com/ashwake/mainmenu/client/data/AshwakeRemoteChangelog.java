@@ -0,0 +1,342 @@
+package com.ashwake.mainmenu.client.data;
+
+import com.ashwake.mainmenu.AshwakeMainMenuMod;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import net.minecraft.Util;
+import net.neoforged.fml.loading.FMLPaths;
+
+// Remote changelog markdown with a disk cache. Callers always get the last good copy immediately, even a stale one;
+// loading, conditional revalidation and failures all happen off-thread.
+public final class AshwakeRemoteChangelog {
+    private static final int MAX_BODY_BYTES = 512 * 1024;
+    private static final long FAILURE_RETRY_MILLIS = 15L * 60L * 1000L;
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final String BODY_FILE = "remote_changelog.md";
+    private static final String META_FILE = "remote_changelog.properties";
+
+    private static volatile AshwakeRemoteChangelog shared;
+
+    private final HttpClient client;
+    private final Path cacheDirectory;
+    private final Executor executor;
+    private final LongSupplier clock;
+    private final AtomicBoolean diskLoadStarted = new AtomicBoolean();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicInteger revision = new AtomicInteger();
+
+    private volatile boolean diskLoaded;
+    private volatile Snapshot snapshot;
+    private volatile long retryAfterMillis;
+    private volatile String attemptedUrl = "";
+
+    public AshwakeRemoteChangelog(HttpClient client, Path cacheDirectory, Executor executor, LongSupplier clock) {
+        this.client = client;
+        this.cacheDirectory = cacheDirectory;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    public static AshwakeRemoteChangelog shared() {
+        AshwakeRemoteChangelog instance = shared;
+        if (instance == null) {
+            synchronized (AshwakeRemoteChangelog.class) {
+                instance = shared;
+                if (instance == null) {
+                    HttpClient client = HttpClient.newBuilder()
+                            .connectTimeout(CONNECT_TIMEOUT)
+                            .followRedirects(HttpClient.Redirect.NORMAL)
+                            .executor(Util.backgroundExecutor())
+                            .build();
+                    Path directory = FMLPaths.GAMEDIR.get().resolve(AshwakeMainMenuMod.MOD_ID).resolve("cache");
+                    instance = new AshwakeRemoteChangelog(client, directory, Util.backgroundExecutor(), System::currentTimeMillis);
+                    shared = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    // Never blocks. Empty until a copy for this URL is on disk or fetched; starts a load or revalidation when due.
+    public Optional<String> current(String url, int ttlHours) {
+        if (!isFetchable(url)) {
+            return Optional.empty();
+        }
+        if (!diskLoaded) {
+            if (diskLoadStarted.compareAndSet(false, true)) {
+                CompletableFuture.runAsync(this::loadFromDisk, executor).whenComplete((ignored, throwable) -> {
+                    diskLoaded = true;
+                    current(url, ttlHours);
+                });
+            }
+            return Optional.empty();
+        }
+
+        if (!url.equals(attemptedUrl)) {
+            // A new URL from the settings screen gets a fresh attempt regardless of earlier failures.
+            attemptedUrl = url;
+            retryAfterMillis = 0L;
+        }
+
+        Snapshot cached = snapshot;
+        boolean matches = cached != null && cached.url().equals(url);
+        long now = clock.getAsLong();
+        boolean expired = !matches || now - cached.fetchedAtMillis() >= ttlHours * 3_600_000L;
+        if (expired && now >= retryAfterMillis) {
+            refresh(url, matches ? cached : null);
+        }
+        return matches ? Optional.of(cached.body()) : Optional.empty();
+    }
+
+    // Bumped whenever the served body changes, so screens know to rebuild their text.
+    public int revision() {
+        return revision.get();
+    }
+
+    private static boolean isFetchable(String url) {
+        if (url == null || url.isBlank()) {
+            return false;
+        }
+        String lower = url.toLowerCase(Locale.ROOT);
+        return lower.startsWith("https://") || lower.startsWith("http://");
+    }
+
+    private void refresh(String url, Snapshot previous) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        HttpRequest request;
+        try {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Accept", "text/markdown, text/plain;q=0.9, */*;q=0.5")
+                    .header("User-Agent", AshwakeMainMenuMod.MOD_ID)
+                    .GET();
+            if (previous != null && !previous.etag().isEmpty()) {
+                builder.header("If-None-Match", previous.etag());
+            }
+            if (previous != null && !previous.lastModified().isEmpty()) {
+                builder.header("If-Modified-Since", previous.lastModified());
+            }
+            request = builder.build();
+        } catch (IllegalArgumentException exception) {
+            AshwakeMainMenuMod.LOGGER.warn("Ashwake remote changelog URL is invalid: {}", url);
+            retryAfterMillis = Long.MAX_VALUE;
+            refreshing.set(false);
+            return;
+        }
+
+        // An oversized Content-Length is refused before any of the body is read.
+        HttpResponse.BodyHandler<byte[]> bodyHandler = responseInfo -> new CappedBodySubscriber(
+                responseInfo.headers().firstValueAsLong("Content-Length").orElse(-1L));
+        long startNs = System.nanoTime();
+        client.sendAsync(request, bodyHandler)
+                .whenCompleteAsync((response, throwable) -> {
+                    try {
+                        handleResponse(url, previous, response, throwable, (System.nanoTime() - startNs) / 1_000_000L);
+                    } finally {
+                        refreshing.set(false);
+                    }
+                }, executor);
+    }
+
+    private void handleResponse(String url, Snapshot previous, HttpResponse<byte[]> response, Throwable throwable, long elapsedMs) {
+        long now = clock.getAsLong();
+        if (throwable != null) {
+            fail(url, "request failed: " + throwable, now);
+            return;
+        }
+
+        int status = response.statusCode();
+        if (status == 304 && previous != null) {
+            snapshot = previous.withFetchedAt(now);
+            persist(snapshot, false);
+            AshwakeMainMenuMod.LOGGER.debug("Ashwake remote changelog not modified ({} ms)", elapsedMs);
+            return;
+        }
+        if (status != 200) {
+            fail(url, "HTTP " + status, now);
+            return;
+        }
+        byte[] body = response.body();
+        if (body == null) {
+            fail(url, "body exceeds " + (MAX_BODY_BYTES / 1024) + " KiB", now);
+            return;
+        }
+
+        Snapshot fetched = new Snapshot(
+                url,
+                new String(body, StandardCharsets.UTF_8),
+                response.headers().firstValue("ETag").orElse(""),
+                response.headers().firstValue("Last-Modified").orElse(""),
+                now);
+        boolean changed = previous == null || !previous.body().equals(fetched.body());
+        snapshot = fetched;
+        persist(fetched, changed);
+        if (changed) {
+            revision.incrementAndGet();
+        }
+        AshwakeMainMenuMod.LOGGER.info("Ashwake remote changelog fetched: {} bytes in {} ms", body.length, elapsedMs);
+    }
+
+    private void fail(String url, String reason, long now) {
+        retryAfterMillis = now + FAILURE_RETRY_MILLIS;
+        AshwakeMainMenuMod.LOGGER.warn(
+                "Ashwake remote changelog {} from {}; serving {} copy",
+                reason,
+                url,
+                snapshot == null ? "local" : "cached");
+    }
+
+    private void loadFromDisk() {
+        Path metaFile = cacheDirectory.resolve(META_FILE);
+        Path bodyFile = cacheDirectory.resolve(BODY_FILE);
+        if (!Files.isRegularFile(metaFile) || !Files.isRegularFile(bodyFile)) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(metaFile, StandardCharsets.UTF_8)) {
+            Properties meta = new Properties();
+            meta.load(reader);
+            String body = Files.readString(bodyFile, StandardCharsets.UTF_8);
+            snapshot = new Snapshot(
+                    meta.getProperty("url", ""),
+                    body,
+                    meta.getProperty("etag", ""),
+                    meta.getProperty("lastModified", ""),
+                    Long.parseLong(meta.getProperty("fetchedAt", "0")));
+            revision.incrementAndGet();
+        } catch (IOException | RuntimeException exception) {
+            AshwakeMainMenuMod.LOGGER.warn("Ashwake remote changelog cache unreadable, refetching", exception);
+        }
+    }
+
+    private void persist(Snapshot value, boolean writeBody) {
+        try {
+            Files.createDirectories(cacheDirectory);
+            if (writeBody || !Files.isRegularFile(cacheDirectory.resolve(BODY_FILE))) {
+                replace(BODY_FILE, value.body());
+            }
+            Properties meta = new Properties();
+            meta.setProperty("url", value.url());
+            meta.setProperty("etag", value.etag());
+            meta.setProperty("lastModified", value.lastModified());
+            meta.setProperty("fetchedAt", Long.toString(value.fetchedAtMillis()));
+            Path temp = Files.createTempFile(cacheDirectory, META_FILE, ".tmp");
+            try {
+                try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                    meta.store(writer, "Ashwake remote changelog cache");
+                }
+                move(temp, cacheDirectory.resolve(META_FILE));
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException exception) {
+            AshwakeMainMenuMod.LOGGER.warn("Ashwake remote changelog cache could not be written to {}", cacheDirectory, exception);
+        }
+    }
+
+    private void replace(String fileName, String content) throws IOException {
+        Path temp = Files.createTempFile(cacheDirectory, fileName, ".tmp");
+        try {
+            Files.writeString(temp, content, StandardCharsets.UTF_8);
+            move(temp, cacheDirectory.resolve(fileName));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // Collects at most MAX_BODY_BYTES and completes with null past that, cancelling the transfer instead of buffering it.
+    private static final class CappedBodySubscriber implements HttpResponse.BodySubscriber<byte[]> {
+        private final CompletableFuture<byte[]> result = new CompletableFuture<>();
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final long declaredLength;
+        private Flow.Subscription subscription;
+
+        private CappedBodySubscriber(long declaredLength) {
+            this.declaredLength = declaredLength;
+        }
+
+        @Override
+        public CompletionStage<byte[]> getBody() {
+            return result;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (declaredLength > MAX_BODY_BYTES) {
+                subscription.cancel();
+                result.complete(null);
+                return;
+            }
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            if (result.isDone()) {
+                return;
+            }
+            for (ByteBuffer item : items) {
+                if (buffer.size() + item.remaining() > MAX_BODY_BYTES) {
+                    subscription.cancel();
+                    result.complete(null);
+                    return;
+                }
+                byte[] bytes = new byte[item.remaining()];
+                item.get(bytes);
+                buffer.writeBytes(bytes);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            result.complete(buffer.toByteArray());
+        }
+    }
+
+    private record Snapshot(String url, String body, String etag, String lastModified, long fetchedAtMillis) {
+        Snapshot withFetchedAt(long millis) {
+            return new Snapshot(url, body, etag, lastModified, millis);
+        }
+    }
+}
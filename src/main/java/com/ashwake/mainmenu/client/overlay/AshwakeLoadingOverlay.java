@@ -1,8 +1,9 @@
 package com.ashwake.mainmenu.client.overlay;
 
 import com.ashwake.mainmenu.AshwakeMainMenuMod;
+import com.ashwake.mainmenu.client.render.AshwakeAnimationClock;
+import com.ashwake.mainmenu.client.render.AshwakeBackgroundRenderer;
 import com.ashwake.mainmenu.client.render.AshwakeBranding;
-import com.ashwake.mainmenu.client.render.AshwakeEmberSystem;
 import com.ashwake.mainmenu.client.render.AshwakePalette;
 import com.ashwake.mainmenu.client.render.AshwakeUiSkin;
 import com.ashwake.mainmenu.config.AshwakeClientConfig;
@@ -49,7 +50,6 @@ public final class AshwakeLoadingOverlay extends LoadingOverlay {
 
     private final Minecraft minecraft;
     private final ReloadInstance reloadInstance;
-    private final AshwakeEmberSystem emberSystem = new AshwakeEmberSystem();
 
     private long lastTipSwap = Util.getMillis();
     private int tipIndex;
@@ -104,7 +104,7 @@ public final class AshwakeLoadingOverlay extends LoadingOverlay {
             renderAshwakeContents(guiGraphics, 1.0F);
         } catch (Throwable throwable) {
             this.renderFailed = true;
-            this.emberSystem.reset();
+            AshwakeBackgroundRenderer.shared().resetParticles();
             if (!renderFailureLogged) {
                 renderFailureLogged = true;
                 AshwakeMainMenuMod.LOGGER.warn("Ashwake loading overlay render failed; falling back to vanilla.", throwable);
@@ -129,6 +129,8 @@ public final class AshwakeLoadingOverlay extends LoadingOverlay {
         float clampedAlpha = Mth.clamp(alpha, 0.0F, 1.0F);
 
         drawBackground(guiGraphics, width, height, clampedAlpha);
+        // Screen render hooks do not fire under an overlay, so the embers' clock is refreshed here.
+        AshwakeAnimationClock.update(this.minecraft);
         drawParticles(guiGraphics, width, height);
 
         int panelWidth = Math.min(PANEL_MAX_WIDTH, width - 64);
@@ -179,12 +181,11 @@ public final class AshwakeLoadingOverlay extends LoadingOverlay {
             RenderSystem.enableBlend();
             RenderSystem.defaultBlendFunc();
             RenderSystem.setShaderColor(1.0F, 1.0F, 1.0F, 0.35F * alpha);
-            guiGraphics.blit(
+            AshwakeUiSkin.drawTiled(
+                    guiGraphics,
                     AshwakeUiSkin.GUI_VIGNETTE,
                     0,
                     0,
-                    0,
-                    0,
                     width,
                     height,
                     AshwakeUiSkin.VIGNETTE_TEXTURE_SIZE,
@@ -197,7 +198,7 @@ public final class AshwakeLoadingOverlay extends LoadingOverlay {
         boolean reducedMotion = AshwakeClientConfig.reducedMotion();
         int density = Mth.clamp(AshwakeClientConfig.loadingParticleDensity(), 0, 100);
         boolean enabled = AshwakeClientConfig.particlesEnabled() && !reducedMotion && density > 0;
-        this.emberSystem.updateAndRender(guiGraphics, width, height, enabled, density, reducedMotion);
+        AshwakeBackgroundRenderer.shared().renderEmbers(guiGraphics, width, height, enabled, density, reducedMotion);
     }
 
     private void drawProgressPanel(GuiGraphics guiGraphics, int panelX, int panelY, int panelWidth, int panelHeight, float alpha) {
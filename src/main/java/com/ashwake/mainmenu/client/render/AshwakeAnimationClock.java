@@ -0,0 +1,60 @@
+package com.ashwake.mainmenu.client.render;
+
+import com.ashwake.mainmenu.AshwakeMainMenuMod;
+import com.ashwake.mainmenu.client.overlay.AshwakeLoadingOverlay;
+import com.ashwake.mainmenu.config.AshwakeClientConfig;
+import com.mojang.blaze3d.platform.Window;
+import net.minecraft.Util;
+import net.minecraft.client.Minecraft;
+import org.lwjgl.glfw.GLFW;
+
+// Menu animation time. It stands still while the window is unfocused, minimized or covered by an overlay that hides
+// the menu, so every simulation reading it sees a zero-length gap on resume instead of a catch-up burst.
+public final class AshwakeAnimationClock {
+    private static long excludedNanos;
+    private static long frozenAtNanos = -1L;
+    private static boolean minimized;
+
+    private AshwakeAnimationClock() {
+    }
+
+    public static long nanos() {
+        long now = frozenAtNanos >= 0L ? frozenAtNanos : Util.getNanos();
+        return now - excludedNanos;
+    }
+
+    public static long millis() {
+        return nanos() / 1_000_000L;
+    }
+
+    public static boolean frozen() {
+        return frozenAtNanos >= 0L;
+    }
+
+    // Nothing on screen is visible, so background drawing can be skipped entirely.
+    public static boolean hidden() {
+        return minimized;
+    }
+
+    // Called every screen frame and every client tick; ticks keep running while a minimized window stops rendering.
+    public static void update(Minecraft minecraft) {
+        Window window = minecraft.getWindow();
+        minimized = window.getWidth() <= 0
+                || window.getHeight() <= 0
+                || GLFW.glfwGetWindowAttrib(window.getWindow(), GLFW.GLFW_ICONIFIED) != 0;
+        // The Ashwake loading overlay draws the shared embers itself, so it keeps the clock running.
+        boolean occludingOverlay = minecraft.getOverlay() != null && !(minecraft.getOverlay() instanceof AshwakeLoadingOverlay);
+        boolean freeze = AshwakeClientConfig.pauseWhenInactive()
+                && (minimized || !minecraft.isWindowActive() || occludingOverlay);
+
+        long now = Util.getNanos();
+        if (freeze && frozenAtNanos < 0L) {
+            frozenAtNanos = now;
+        } else if (!freeze && frozenAtNanos >= 0L) {
+            long pausedNanos = now - frozenAtNanos;
+            excludedNanos += pausedNanos;
+            frozenAtNanos = -1L;
+            AshwakeMainMenuMod.LOGGER.debug("Ashwake menu animations resumed after {} ms inactive", pausedNanos / 1_000_000L);
+        }
+    }
+}
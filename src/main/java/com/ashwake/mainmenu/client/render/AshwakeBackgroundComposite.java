@@ -0,0 +1,77 @@
+package com.ashwake.mainmenu.client.render;
+
+import com.ashwake.mainmenu.AshwakeMainMenuMod;
+import com.ashwake.mainmenu.config.AshwakeClientConfig;
+import com.mojang.blaze3d.pipeline.RenderTarget;
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiGraphics;
+
+final class AshwakeBackgroundComposite {
+    private RenderTarget target;
+    private int builtWidth = -1;
+    private int builtHeight = -1;
+    private int builtDarken = -1;
+    private int builtGeneration = -1;
+    private boolean builtParallax;
+    private boolean builtReducedMotion;
+
+    void render(GuiGraphics graphics, int width, int height, boolean parallax, boolean reducedMotion) {
+        Minecraft minecraft = Minecraft.getInstance();
+        RenderTarget mainTarget = minecraft.getMainRenderTarget();
+        int darken = AshwakeClientConfig.backgroundDarken();
+        int generation = AshwakeUiSkin.reloadGeneration();
+        if (target == null
+                || target.width != mainTarget.width
+                || target.height != mainTarget.height
+                || builtWidth != width
+                || builtHeight != height
+                || builtDarken != darken
+                || builtGeneration != generation
+                || builtParallax != parallax
+                || builtReducedMotion != reducedMotion) {
+            rebuild(graphics, mainTarget, width, height, parallax, reducedMotion);
+            builtWidth = width;
+            builtHeight = height;
+            builtDarken = darken;
+            builtGeneration = generation;
+            builtParallax = parallax;
+            builtReducedMotion = reducedMotion;
+        }
+
+        // The composite is fully opaque; skip blending so the target's alpha channel is ignored.
+        RenderSystem.disableBlend();
+        AshwakeQuadBatch batch = AshwakeQuadBatch.begin(graphics, target.getColorTextureId());
+        batch.quad(0, 0, width, height, 0.0F, 1.0F, 1.0F, 0.0F);
+        batch.end();
+    }
+
+    long footprintBytes() {
+        return target == null ? 0L : (long) target.width * target.height * 4L;
+    }
+
+    void release() {
+        if (target == null) {
+            return;
+        }
+        target.destroyBuffers();
+        target = null;
+        builtWidth = -1;
+        builtHeight = -1;
+    }
+
+    private void rebuild(GuiGraphics graphics, RenderTarget mainTarget, int width, int height, boolean parallax, boolean reducedMotion) {
+        target = AshwakeOffscreenPass.ensureTarget(target, mainTarget.width, mainTarget.height);
+        GuiGraphics offscreen = AshwakeOffscreenPass.begin(graphics, target, width, height);
+        AshwakeBackgroundRenderer.drawStaticLayers(offscreen, width, height, parallax, reducedMotion);
+        AshwakeOffscreenPass.end(offscreen);
+
+        long pixels = (long) target.width * target.height;
+        AshwakeMainMenuMod.LOGGER.debug(
+                "Ashwake background composite rebuilt at {}x{}: {} px/frame composited vs ~{} px/frame drawn directly",
+                target.width,
+                target.height,
+                pixels,
+                AshwakeBackgroundRenderer.directFillPixels(target.width, target.height));
+    }
+}
@@ -1,5 +1,7 @@
 package com.ashwake.mainmenu.client.render;
 
+import com.ashwake.mainmenu.AshwakeMainMenuMod;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.util.Mth;
 import com.ashwake.mainmenu.config.AshwakeClientConfig;
@@ -8,7 +10,23 @@ public final class AshwakeBackgroundRenderer {
     private static final float MIN_DARKEN = 0.40F;
     private static final float MAX_DARKEN = 0.55F;
 
+    // One client-wide instance so ember and parallax state carry over between Ashwake screens.
+    private static final AshwakeBackgroundRenderer SHARED = new AshwakeBackgroundRenderer();
+
+    private final AshwakeBackgroundComposite composite = new AshwakeBackgroundComposite();
+    private final AshwakeParallaxBackground parallaxLayers = new AshwakeParallaxBackground();
     private final AshwakeEmberSystem embers = new AshwakeEmberSystem();
+    private final AshwakeEmitterEngine emitters = new AshwakeEmitterEngine();
+
+    private boolean renderedSinceTick;
+    private boolean paused;
+
+    private AshwakeBackgroundRenderer() {
+    }
+
+    public static AshwakeBackgroundRenderer shared() {
+        return SHARED;
+    }
 
     public void render(
             GuiGraphics graphics,
@@ -20,28 +38,28 @@ public final class AshwakeBackgroundRenderer {
             boolean particlesEnabled,
             int particleDensity,
             boolean reducedMotion) {
-        if (AshwakeUiSkin.hasTexture(AshwakeUiSkin.BACKGROUND_MAIN)) {
-            AshwakeUiSkin.drawCover(
-                    graphics,
-                    AshwakeUiSkin.BACKGROUND_MAIN,
-                    0,
-                    0,
-                    width,
-                    height,
-                    AshwakeUiSkin.MAIN_BACKGROUND_WIDTH,
-                    AshwakeUiSkin.MAIN_BACKGROUND_HEIGHT,
-                    0,
-                    0);
+        markRendered();
+        if (AshwakeAnimationClock.hidden()) {
+            return;
+        }
+        AshwakeFrameGovernor.onFrame();
+        animationIntensity = AshwakeFrameGovernor.animationIntensity(animationIntensity);
+        particleDensity = AshwakeFrameGovernor.particleDensity(particleDensity);
+        boolean parallax = AshwakeClientConfig.parallaxBackground();
+        if (AshwakeClientConfig.compositeBackground()) {
+            composite.render(graphics, width, height, parallax, reducedMotion);
         } else {
-            graphics.fillGradient(0, 0, width, height, AshwakePalette.ASH_DARK, AshwakePalette.ASH_DARKER);
+            composite.release();
+            drawStaticLayers(graphics, width, height, parallax, reducedMotion);
         }
 
-        float darken = Mth.clamp(AshwakeClientConfig.backgroundDarken() / 100.0F, MIN_DARKEN, MAX_DARKEN);
-        int overlayAlpha = Mth.clamp((int) (darken * 255.0F), 0, 255);
-        graphics.fill(0, 0, width, height, overlayAlpha << 24);
-
-        int vignetteAlpha = reducedMotion ? 64 : 90;
-        drawEdgeVignette(graphics, width, height, vignetteAlpha);
+        if (parallax) {
+            parallaxLayers.render(graphics, width, height, animationsEnabled, animationIntensity, reducedMotion);
+            // The mid and near bands are opaque, so the vignette goes on top of them rather than into the static layers.
+            drawEdgeVignette(graphics, width, height, vignetteAlpha(reducedMotion));
+        } else {
+            parallaxLayers.release();
+        }
 
         float intensityScale = Mth.clamp(animationIntensity / 100.0F, 0.15F, 1.0F);
         int targetDensity = Mth.clamp(Math.round(particleDensity * intensityScale), 0, 100);
@@ -64,12 +82,112 @@ public final class AshwakeBackgroundRenderer {
                     0,
                     true);
         }
+        emitters.render(graphics, width, height, animationsEnabled && particlesEnabled, reducedMotion);
+    }
+
+    public void renderEmbers(GuiGraphics graphics, int width, int height, boolean enabled, int density, boolean reducedMotion) {
+        markRendered();
+        embers.updateAndRender(graphics, width, height, enabled, density, reducedMotion);
     }
 
     public void resetParticles() {
         embers.reset();
     }
 
+    public void onClientTick(Minecraft minecraft) {
+        boolean rendered = renderedSinceTick;
+        renderedSinceTick = false;
+        if (paused || rendered || minecraft.level == null) {
+            return;
+        }
+
+        // A world is active and no Ashwake background drew this tick: drop GPU targets and freeze the simulation.
+        long footprint = footprintBytes();
+        composite.release();
+        parallaxLayers.release();
+        AshwakeBranding.releaseBakedLogos();
+        paused = true;
+        AshwakeMainMenuMod.LOGGER.debug(
+                "Ashwake background paused for in-game world ({} KiB released, {} KiB simulation state kept)",
+                (footprint - embers.footprintBytes()) / 1024L,
+                embers.footprintBytes() / 1024L);
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public long footprintBytes() {
+        return composite.footprintBytes() + parallaxLayers.footprintBytes() + embers.footprintBytes() + emitters.footprintBytes();
+    }
+
+    private void markRendered() {
+        renderedSinceTick = true;
+        if (!paused) {
+            return;
+        }
+        paused = false;
+        // Resume from the frozen state instead of simulating the time spent in-world.
+        embers.resumeClock();
+        parallaxLayers.resumeClock();
+        emitters.resumeClock();
+        AshwakeMainMenuMod.LOGGER.debug("Ashwake background resumed");
+    }
+
+    // Shared by the static overlay and the parallax bake so both modes render the same brightness.
+    static float darkenFraction(int darken) {
+        return Mth.clamp(darken / 100.0F, MIN_DARKEN, MAX_DARKEN);
+    }
+
+    static void drawStaticLayers(GuiGraphics graphics, int width, int height, boolean parallax, boolean reducedMotion) {
+        if (parallax && AshwakeUiSkin.hasTexture(AshwakeUiSkin.BACKGROUND_FAR)) {
+            AshwakeUiSkin.drawCover(
+                    graphics,
+                    AshwakeUiSkin.BACKGROUND_FAR,
+                    0,
+                    0,
+                    width,
+                    height,
+                    AshwakeUiSkin.BACKGROUND_TEXTURE_WIDTH,
+                    AshwakeUiSkin.BACKGROUND_TEXTURE_HEIGHT,
+                    0,
+                    0);
+        } else if (AshwakeUiSkin.hasTexture(AshwakeUiSkin.BACKGROUND_MAIN)) {
+            AshwakeUiSkin.drawCover(
+                    graphics,
+                    AshwakeUiSkin.BACKGROUND_MAIN,
+                    0,
+                    0,
+                    width,
+                    height,
+                    AshwakeUiSkin.MAIN_BACKGROUND_WIDTH,
+                    AshwakeUiSkin.MAIN_BACKGROUND_HEIGHT,
+                    0,
+                    0);
+        } else {
+            graphics.fillGradient(0, 0, width, height, AshwakePalette.ASH_DARK, AshwakePalette.ASH_DARKER);
+        }
+
+        float darken = darkenFraction(AshwakeClientConfig.backgroundDarken());
+        int overlayAlpha = Mth.clamp((int) (darken * 255.0F), 0, 255);
+        graphics.fill(0, 0, width, height, overlayAlpha << 24);
+
+        if (!parallax) {
+            drawEdgeVignette(graphics, width, height, vignetteAlpha(reducedMotion));
+        }
+    }
+
+    static long directFillPixels(int width, int height) {
+        // Cover + darken fill + two horizontal and two vertical vignette bands.
+        long topBand = Math.max(24, height / 5);
+        long sideBand = Math.max(24, width / 7);
+        return 2L * width * height + 2L * width * topBand + 2L * height * sideBand;
+    }
+
+    private static int vignetteAlpha(boolean reducedMotion) {
+        return reducedMotion ? 64 : 90;
+    }
+
     private static void drawEdgeVignette(GuiGraphics graphics, int width, int height, int alpha) {
         int topBand = Math.max(24, height / 5);
         int sideBand = Math.max(24, width / 7);
@@ -1,6 +1,10 @@
 package com.ashwake.mainmenu.client.render;
 
+import com.mojang.blaze3d.pipeline.RenderTarget;
+import com.mojang.blaze3d.platform.GlStateManager;
 import com.mojang.blaze3d.systems.RenderSystem;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
@@ -9,6 +13,25 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.Mth;
 
 public final class AshwakeBranding {
+    private static final int SHADOW_OFFSET_X = 1;
+    private static final int SHADOW_OFFSET_Y = 2;
+    private static final float SHADOW_ALPHA = 0.35F;
+    private static final int MAX_BAKED_LOGOS = 4;
+    private static final Map<BakedLogoKey, RenderTarget> BAKED_LOGOS = new LinkedHashMap<>(8, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<BakedLogoKey, RenderTarget> eldest) {
+            if (size() <= MAX_BAKED_LOGOS) {
+                return false;
+            }
+            eldest.getValue().destroyBuffers();
+            return true;
+        }
+    };
+
+    private static int bakedGeneration = -1;
+    private static ResourceLocation resolvedLogo;
+    private static int resolvedLogoGeneration = -1;
+
     private AshwakeBranding() {
     }
 
@@ -33,44 +56,28 @@ public final class AshwakeBranding {
 
         int boxWidth = Math.max(36, maxWidth);
         int boxHeight = Math.max(24, maxHeight);
+        float aspect = logoAspect(logoTexture);
         int drawWidth = boxWidth;
-        int drawHeight = (int) (drawWidth / logoAspect(logoTexture));
+        int drawHeight = (int) (drawWidth / aspect);
         if (drawHeight > boxHeight) {
             drawHeight = boxHeight;
-            drawWidth = (int) (drawHeight * logoAspect(logoTexture));
+            drawWidth = (int) (drawHeight * aspect);
         }
         int boxX = centerX - (boxWidth / 2);
 
-        // Shadow-only logo treatment to preserve readability without any halo/circle backplate.
-        drawLogoLayer(
-                guiGraphics,
-                logoTexture,
-                boxX + 1,
-                topY + 2,
-                boxWidth,
-                boxHeight,
-                logoTextureWidth(logoTexture),
-                logoTextureHeight(logoTexture),
-                0.0F,
-                0.0F,
-                0.0F,
-                0.35F);
-
         float pulse = Mth.clamp(pulseFactor, 0.0F, 1.0F);
         float brightness = Mth.clamp(1.0F + ((pulse - 0.5F) * 0.06F), 0.95F, 1.05F);
-        drawLogoLayer(
-                guiGraphics,
-                logoTexture,
-                boxX,
-                topY,
-                boxWidth,
-                boxHeight,
-                logoTextureWidth(logoTexture),
-                logoTextureHeight(logoTexture),
-                brightness,
-                brightness,
-                brightness,
-                1.0F);
+        RenderTarget baked = bakedLogo(guiGraphics, logoTexture, boxWidth, boxHeight);
+
+        // Baked contents are premultiplied; the shadow is black, so the pulse tint only affects the logo.
+        RenderSystem.enableBlend();
+        RenderSystem.blendFunc(GlStateManager.SourceFactor.ONE, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA);
+        RenderSystem.setShaderColor(brightness, brightness, brightness, 1.0F);
+        AshwakeQuadBatch batch = AshwakeQuadBatch.begin(guiGraphics, baked.getColorTextureId());
+        batch.quad(boxX, topY, boxX + boxWidth + SHADOW_OFFSET_X, topY + boxHeight + SHADOW_OFFSET_Y, 0.0F, 1.0F, 1.0F, 0.0F);
+        batch.end();
+        RenderSystem.setShaderColor(1.0F, 1.0F, 1.0F, 1.0F);
+        RenderSystem.defaultBlendFunc();
 
         return drawHeight;
     }
@@ -85,6 +92,8 @@ public final class AshwakeBranding {
         int clamped = Math.max(18, size);
         ResourceLocation logoTexture = resolveLogoTexture();
         if (logoTexture != null) {
+            RenderSystem.enableBlend();
+            RenderSystem.defaultBlendFunc();
             drawLogoLayer(
                     guiGraphics,
                     logoTexture,
@@ -105,6 +114,13 @@ public final class AshwakeBranding {
         return clamped;
     }
 
+    public static void releaseBakedLogos() {
+        for (RenderTarget target : BAKED_LOGOS.values()) {
+            target.destroyBuffers();
+        }
+        BAKED_LOGOS.clear();
+    }
+
     private static void drawLogoLayer(
             GuiGraphics guiGraphics,
             ResourceLocation texture,
@@ -118,12 +134,16 @@ public final class AshwakeBranding {
             float green,
             float blue,
             float alpha) {
-        RenderSystem.enableBlend();
-        RenderSystem.defaultBlendFunc();
         RenderSystem.setShaderColor(red, green, blue, alpha);
+        ResourceLocation variant = AshwakeTextureVariants.select(
+                texture,
+                AshwakeTextureVariants.guiToPixels(width),
+                AshwakeTextureVariants.guiToPixels(height));
+        AshwakeTextureResidency.touch(variant);
         try {
+            // Variants keep the source aspect ratio, so the source dimensions still inscribe correctly.
             guiGraphics.blitInscribed(
-                    texture,
+                    variant,
                     x,
                     y,
                     width,
@@ -135,6 +155,64 @@ public final class AshwakeBranding {
         }
     }
 
+    // Shadow and logo are composited once per (texture, box size, GUI scale); frames then draw one quad.
+    private static RenderTarget bakedLogo(GuiGraphics guiGraphics, ResourceLocation texture, int boxWidth, int boxHeight) {
+        int generation = AshwakeUiSkin.reloadGeneration();
+        if (generation != bakedGeneration) {
+            releaseBakedLogos();
+            bakedGeneration = generation;
+        }
+
+        double guiScale = Minecraft.getInstance().getWindow().getGuiScale();
+        BakedLogoKey key = new BakedLogoKey(texture, boxWidth, boxHeight, guiScale);
+        RenderTarget target = BAKED_LOGOS.get(key);
+        if (target != null) {
+            return target;
+        }
+
+        int bakedWidth = boxWidth + SHADOW_OFFSET_X;
+        int bakedHeight = boxHeight + SHADOW_OFFSET_Y;
+        target = AshwakeOffscreenPass.ensureTarget(null, Mth.ceil(bakedWidth * guiScale), Mth.ceil(bakedHeight * guiScale));
+        GuiGraphics offscreen = AshwakeOffscreenPass.begin(guiGraphics, target, bakedWidth, bakedHeight);
+        RenderSystem.enableBlend();
+        RenderSystem.blendFuncSeparate(
+                GlStateManager.SourceFactor.SRC_ALPHA,
+                GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA,
+                GlStateManager.SourceFactor.ONE,
+                GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA);
+        drawLogoLayer(
+                offscreen,
+                texture,
+                SHADOW_OFFSET_X,
+                SHADOW_OFFSET_Y,
+                boxWidth,
+                boxHeight,
+                logoTextureWidth(texture),
+                logoTextureHeight(texture),
+                0.0F,
+                0.0F,
+                0.0F,
+                SHADOW_ALPHA);
+        drawLogoLayer(
+                offscreen,
+                texture,
+                0,
+                0,
+                boxWidth,
+                boxHeight,
+                logoTextureWidth(texture),
+                logoTextureHeight(texture),
+                1.0F,
+                1.0F,
+                1.0F,
+                1.0F);
+        RenderSystem.defaultBlendFunc();
+        AshwakeOffscreenPass.end(offscreen);
+
+        BAKED_LOGOS.put(key, target);
+        return target;
+    }
+
     private static float logoAspect(ResourceLocation texture) {
         return texture.equals(AshwakeUiSkin.LOGO_TRANSPARENT)
                 ? (AshwakeUiSkin.LOGO_TRANSPARENT_WIDTH / (float) AshwakeUiSkin.LOGO_TRANSPARENT_HEIGHT)
@@ -142,13 +220,19 @@ public final class AshwakeBranding {
     }
 
     private static ResourceLocation resolveLogoTexture() {
-        if (hasTexture(AshwakeUiSkin.LOGO_TRANSPARENT)) {
-            return AshwakeUiSkin.LOGO_TRANSPARENT;
+        int generation = AshwakeUiSkin.reloadGeneration();
+        if (generation == resolvedLogoGeneration) {
+            return resolvedLogo;
         }
-        if (hasTexture(AshwakeUiSkin.LOGO_LEGACY)) {
-            return AshwakeUiSkin.LOGO_LEGACY;
+        if (AshwakeUiSkin.hasTexture(AshwakeUiSkin.LOGO_TRANSPARENT)) {
+            resolvedLogo = AshwakeUiSkin.LOGO_TRANSPARENT;
+        } else if (AshwakeUiSkin.hasTexture(AshwakeUiSkin.LOGO_LEGACY)) {
+            resolvedLogo = AshwakeUiSkin.LOGO_LEGACY;
+        } else {
+            resolvedLogo = null;
         }
-        return null;
+        resolvedLogoGeneration = generation;
+        return resolvedLogo;
     }
 
     private static int logoTextureWidth(ResourceLocation texture) {
@@ -163,11 +247,6 @@ public final class AshwakeBranding {
                 : AshwakeUiSkin.LOGO_LEGACY_SIZE;
     }
 
-    private static boolean hasTexture(ResourceLocation texture) {
-        Minecraft minecraft = Minecraft.getInstance();
-        if (minecraft == null || minecraft.getResourceManager() == null) {
-            return false;
-        }
-        return minecraft.getResourceManager().getResource(texture).isPresent();
+    private record BakedLogoKey(ResourceLocation texture, int boxWidth, int boxHeight, double guiScale) {
     }
 }
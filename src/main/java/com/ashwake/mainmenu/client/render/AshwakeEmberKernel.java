@@ -0,0 +1,95 @@
+package com.ashwake.mainmenu.client.render;
+
+import com.ashwake.mainmenu.AshwakeMainMenuMod;
+
+final class AshwakeEmberKernel {
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final boolean VECTORIZED = detectVectorSupport();
+
+    private AshwakeEmberKernel() {
+    }
+
+    static boolean vectorized() {
+        return VECTORIZED;
+    }
+
+    // Advances every slot by one fixed step and clears active for embers that expired or left the screen.
+    // Velocity changes come from AshwakeFlowField afterwards, so both kernels only integrate positions.
+    static void integrate(
+            boolean[] active,
+            float[] x,
+            float[] y,
+            float[] prevX,
+            float[] prevY,
+            float[] vx,
+            float[] vy,
+            float[] life,
+            float[] maxLife,
+            int count,
+            float dt,
+            int width,
+            int height) {
+        int start = 0;
+        if (VECTORIZED) {
+            start = AshwakeEmberVectorKernel.integrate(
+                    active, x, y, prevX, prevY, vx, vy, life, maxLife, count, dt, width, height);
+        }
+        integrateScalar(active, x, y, prevX, prevY, vx, vy, life, maxLife, start, count, dt, width, height);
+    }
+
+    static void integrateScalar(
+            boolean[] active,
+            float[] x,
+            float[] y,
+            float[] prevX,
+            float[] prevY,
+            float[] vx,
+            float[] vy,
+            float[] life,
+            float[] maxLife,
+            int from,
+            int to,
+            float dt,
+            int width,
+            int height) {
+        float minX = -4F;
+        float maxX = width + 4F;
+        float minY = -6F;
+        float maxY = height + 6F;
+        for (int i = from; i < to; i++) {
+            if (!active[i]) {
+                continue;
+            }
+            life[i] += dt;
+            if (life[i] >= maxLife[i]) {
+                active[i] = false;
+                continue;
+            }
+
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            x[i] += vx[i] * dt;
+            y[i] += vy[i] * dt;
+
+            if (x[i] < minX || x[i] > maxX || y[i] < minY || y[i] > maxY) {
+                active[i] = false;
+            }
+        }
+    }
+
+    private static boolean detectVectorSupport() {
+        // The incubator module is only resolved when the JVM is started with --add-modules jdk.incubator.vector.
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            AshwakeMainMenuMod.LOGGER.info("Ashwake embers: {} not enabled, using scalar kernel", VECTOR_MODULE);
+            return false;
+        }
+        try {
+            int lanes = AshwakeEmberVectorKernel.lanes();
+            AshwakeMainMenuMod.LOGGER.info("Ashwake embers: using vector kernel ({} float lanes)", lanes);
+            return lanes > 1;
+        } catch (LinkageError error) {
+            AshwakeMainMenuMod.LOGGER.warn("Ashwake embers: vector kernel unavailable, using scalar kernel", error);
+            return false;
+        }
+    }
+}
@@ -1,41 +1,117 @@
 package com.ashwake.mainmenu.client.render;
 
-import net.minecraft.Util;
+import com.ashwake.mainmenu.AshwakeMainMenuMod;
+import com.ashwake.mainmenu.config.AshwakeClientConfig;
+import java.util.Arrays;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 
 public final class AshwakeEmberSystem {
-    private static final int MAX_PARTICLES = 450;
+    // Hard ceiling for the growable arrays; the configured ui.maxEmbers picks the live limit below it.
+    private static final int MAX_PARTICLES = 8192;
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int EMBER_TEXTURE_SIZE = 16;
+    private static final long STATS_INTERVAL_NANOS = 5_000_000_000L;
     private static final ResourceLocation[] EMBER_TEXTURES = {
             AshwakeUiSkin.PARTICLE_EMBER_0,
             AshwakeUiSkin.PARTICLE_EMBER_1,
             AshwakeUiSkin.PARTICLE_EMBER_2
     };
 
-    private final boolean[] active = new boolean[MAX_PARTICLES];
-    private final float[] x = new float[MAX_PARTICLES];
-    private final float[] y = new float[MAX_PARTICLES];
-    private final float[] vx = new float[MAX_PARTICLES];
-    private final float[] vy = new float[MAX_PARTICLES];
-    private final float[] life = new float[MAX_PARTICLES];
-    private final float[] maxLife = new float[MAX_PARTICLES];
-    private final int[] variant = new int[MAX_PARTICLES];
+    // Live embers are packed into [0, aliveCount); dead ones are swap-removed after each step.
+    private boolean[] active = new boolean[INITIAL_CAPACITY];
+    private float[] x = new float[INITIAL_CAPACITY];
+    private float[] y = new float[INITIAL_CAPACITY];
+    private float[] prevX = new float[INITIAL_CAPACITY];
+    private float[] prevY = new float[INITIAL_CAPACITY];
+    private float[] vx = new float[INITIAL_CAPACITY];
+    private float[] vy = new float[INITIAL_CAPACITY];
+    private float[] life = new float[INITIAL_CAPACITY];
+    private float[] maxLife = new float[INITIAL_CAPACITY];
+    private int[] variant = new int[INITIAL_CAPACITY];
+    private int capacity = INITIAL_CAPACITY;
+    private final int[] variantCounts = new int[EMBER_TEXTURES.length];
+    private final AshwakeUiAtlas.Sprite[] atlasSprites = new AshwakeUiAtlas.Sprite[EMBER_TEXTURES.length];
 
-    private final RandomSource random = RandomSource.create();
+    private final RandomSource random;
+    private final LongSupplier clock;
+    private final IntSupplier simulationHz;
+    private final IntSupplier maxEmbers;
+    private final Supplier<short[]> flowField;
+    // Null for headless instances so replays do not pollute the live telemetry.
+    private final AshwakeParticleTelemetry.Source telemetrySource;
 
-    private int nextIndex;
     private float spawnAccumulator;
-    private long lastFrameNanos = Util.getNanos();
+    private float simAccumulator;
+    private float flowScroll;
+    private int aliveCount;
+    private float renderAlpha;
+    private long lastFrameNanos;
+    private int lastFrameDrawCalls;
+    private int lastFrameParticles;
+    private long lastFrameSimNanos;
+    private int frameSpawned;
+    private int frameDropped;
+
+    private long statsStartedNanos;
+    private long statsSimNanos;
+    private int statsFrames;
+    private int statsSteps;
+
+    public AshwakeEmberSystem() {
+        this(
+                RandomSource.create(),
+                AshwakeAnimationClock::nanos,
+                AshwakeClientConfig::emberSimulationHz,
+                AshwakeClientConfig::maxEmbers,
+                AshwakeFlowField::current,
+                AshwakeParticleTelemetry.Source.EMBERS);
+    }
+
+    // Deterministic mode: the same seed, clock readings and call sequence always produce the same ember state.
+    public AshwakeEmberSystem(long seed, LongSupplier clock, int simulationHz, int maxEmbers) {
+        this(RandomSource.create(seed), clock, () -> simulationHz, () -> maxEmbers, constant(AshwakeFlowField.ensureGenerated()), null);
+    }
+
+    private AshwakeEmberSystem(
+            RandomSource random,
+            LongSupplier clock,
+            IntSupplier simulationHz,
+            IntSupplier maxEmbers,
+            Supplier<short[]> flowField,
+            AshwakeParticleTelemetry.Source telemetrySource) {
+        this.random = random;
+        this.clock = clock;
+        this.simulationHz = simulationHz;
+        this.maxEmbers = maxEmbers;
+        this.flowField = flowField;
+        this.telemetrySource = telemetrySource;
+        this.lastFrameNanos = clock.getAsLong();
+        this.statsStartedNanos = lastFrameNanos;
+    }
 
     public void reset() {
-        for (int i = 0; i < MAX_PARTICLES; i++) {
-            active[i] = false;
-        }
-        nextIndex = 0;
+        aliveCount = 0;
+        Arrays.fill(variantCounts, 0);
+        spawnAccumulator = 0F;
+        simAccumulator = 0F;
+        lastFrameNanos = clock.getAsLong();
+    }
+
+    public void resumeClock() {
+        lastFrameNanos = clock.getAsLong();
         spawnAccumulator = 0F;
-        lastFrameNanos = Util.getNanos();
+        simAccumulator = 0F;
+    }
+
+    public long footprintBytes() {
+        // active flag, eight float channels and the variant index per slot.
+        return (long) capacity * (1L + 8L * Float.BYTES + Integer.BYTES);
     }
 
     public void updateAndRender(
@@ -45,92 +121,274 @@ public final class AshwakeEmberSystem {
             boolean enabled,
             int density,
             boolean reducedMotion) {
-        long now = Util.getNanos();
+        if (advance(width, height, enabled, density, reducedMotion)) {
+            render(graphics);
+        }
+    }
+
+    // Simulation half of updateAndRender; returns false when embers are disabled and nothing should be drawn.
+    public boolean advance(int width, int height, boolean enabled, int density, boolean reducedMotion) {
+        long now = clock.getAsLong();
         float dt = Mth.clamp((now - lastFrameNanos) / 1_000_000_000F, 0.0F, 0.1F);
         lastFrameNanos = now;
 
         if (!enabled || density <= 0) {
-            return;
+            lastFrameDrawCalls = 0;
+            lastFrameParticles = 0;
+            return false;
         }
 
-        int targetCount = Mth.clamp((width * height) / 5200, 18, MAX_PARTICLES);
-        targetCount = Mth.clamp((targetCount * density) / 100, 8, MAX_PARTICLES);
+        // The simulation runs at a fixed rate; frames only interpolate between the last two sim states.
+        long simStarted = System.nanoTime();
+        frameSpawned = 0;
+        frameDropped = 0;
+        float step = 1.0F / simulationHz.getAsInt();
+        simAccumulator += dt;
+        int steps = 0;
+        while (simAccumulator >= step) {
+            simAccumulator -= step;
+            simulate(step, width, height, density, reducedMotion);
+            steps++;
+        }
+        renderAlpha = simAccumulator / step;
+        lastFrameSimNanos = System.nanoTime() - simStarted;
+        recordStats(now, steps);
+        lastFrameParticles = aliveCount;
+
+        // If all particles are gone, avoid stale timestamps causing burst spawns.
+        if (aliveCount == 0) {
+            lastFrameNanos = clock.getAsLong();
+        }
+        return true;
+    }
+
+    // Render paths only read simulation state.
+    public void render(GuiGraphics graphics) {
+        long renderStarted = System.nanoTime();
+        lastFrameDrawCalls = 0;
+        if (aliveCount > 0 && AshwakeUiAtlas.containsAll(EMBER_TEXTURES)) {
+            renderFromAtlas(graphics, renderAlpha);
+            lastFrameDrawCalls = 1;
+        } else {
+            for (int variantIndex = 0; variantIndex < EMBER_TEXTURES.length; variantIndex++) {
+                if (variantCounts[variantIndex] > 0) {
+                    renderVariant(graphics, variantIndex, renderAlpha);
+                    lastFrameDrawCalls++;
+                }
+            }
+        }
+        if (telemetrySource != null) {
+            AshwakeParticleTelemetry.record(
+                    telemetrySource, aliveCount, frameSpawned, frameDropped, lastFrameSimNanos, System.nanoTime() - renderStarted);
+        }
+    }
+
+    public long stateHash() {
+        long hash = aliveCount;
+        for (int i = 0; i < aliveCount; i++) {
+            hash = hash * 31L + Float.floatToIntBits(x[i]);
+            hash = hash * 31L + Float.floatToIntBits(y[i]);
+            hash = hash * 31L + Float.floatToIntBits(vx[i]);
+            hash = hash * 31L + Float.floatToIntBits(vy[i]);
+            hash = hash * 31L + Float.floatToIntBits(life[i]);
+            hash = hash * 31L + Float.floatToIntBits(maxLife[i]);
+            hash = hash * 31L + variant[i];
+        }
+        hash = hash * 31L + Float.floatToIntBits(spawnAccumulator);
+        return hash * 31L + Float.floatToIntBits(simAccumulator);
+    }
+
+    public int lastFrameDrawCalls() {
+        return lastFrameDrawCalls;
+    }
+
+    public int lastFrameParticles() {
+        return lastFrameParticles;
+    }
+
+    public long lastFrameSimNanos() {
+        return lastFrameSimNanos;
+    }
+
+    private void simulate(float dt, int width, int height, int density, boolean reducedMotion) {
+        int limit = Mth.clamp(maxEmbers.getAsInt(), 8, MAX_PARTICLES);
+        int targetCount = Mth.clamp((width * height) / 5200, 18, limit);
+        targetCount = Mth.clamp((targetCount * density) / 100, 8, limit);
         float spawnRate = targetCount * (reducedMotion ? 0.45F : 0.85F);
         spawnAccumulator += spawnRate * dt;
 
         while (spawnAccumulator >= 1F) {
             spawnAccumulator -= 1F;
-            spawnParticle(width, height, reducedMotion);
+            if (spawnParticle(width, height, reducedMotion, limit)) {
+                frameSpawned++;
+            } else {
+                frameDropped++;
+            }
         }
 
-        int aliveCount = 0;
-        for (int i = 0; i < MAX_PARTICLES; i++) {
+        AshwakeEmberKernel.integrate(
+                active,
+                x,
+                y,
+                prevX,
+                prevY,
+                vx,
+                vy,
+                life,
+                maxLife,
+                aliveCount,
+                dt,
+                width,
+                height);
+
+        short[] field = flowField.get();
+        if (field != null) {
+            flowScroll = AshwakeFlowField.advanceScroll(flowScroll, dt);
+            AshwakeFlowField.advect(field, active, x, y, vx, vy, aliveCount, (reducedMotion ? 3.0F : 6.0F) * dt, flowScroll);
+        }
+
+        Arrays.fill(variantCounts, 0);
+        int i = 0;
+        while (i < aliveCount) {
             if (!active[i]) {
+                // Swap-remove: the last live ember takes this slot and is checked on the next pass.
+                moveParticle(--aliveCount, i);
                 continue;
             }
-            aliveCount++;
-            life[i] += dt;
-            if (life[i] >= maxLife[i]) {
-                active[i] = false;
-                continue;
-            }
+            variantCounts[variant[i]]++;
+            i++;
+        }
+    }
 
-            x[i] += vx[i] * dt;
-            y[i] += vy[i] * dt;
-            vx[i] += (random.nextFloat() - 0.5F) * (reducedMotion ? 1.5F : 3.0F) * dt;
+    private void recordStats(long now, int steps) {
+        statsSimNanos += lastFrameSimNanos;
+        statsFrames++;
+        statsSteps += steps;
+        long elapsed = now - statsStartedNanos;
+        if (elapsed < STATS_INTERVAL_NANOS) {
+            return;
+        }
+        float seconds = elapsed / 1_000_000_000F;
+        AshwakeMainMenuMod.LOGGER.debug(
+                "Ashwake embers: {} fps, {} sim steps/s, {} us sim per frame, {} live",
+                Math.round(statsFrames / seconds),
+                Math.round(statsSteps / seconds),
+                (statsSimNanos / statsFrames) / 1_000L,
+                aliveCount);
+        statsStartedNanos = now;
+        statsSimNanos = 0L;
+        statsFrames = 0;
+        statsSteps = 0;
+    }
 
-            if (x[i] < -4 || x[i] > width + 4 || y[i] < -6 || y[i] > height + 6) {
-                active[i] = false;
-                continue;
-            }
+    private void renderFromAtlas(GuiGraphics graphics, float alpha) {
+        for (int variantIndex = 0; variantIndex < EMBER_TEXTURES.length; variantIndex++) {
+            atlasSprites[variantIndex] = AshwakeUiAtlas.sprite(EMBER_TEXTURES[variantIndex]);
+        }
 
+        AshwakeQuadBatch batch = AshwakeQuadBatch.begin(graphics, AshwakeUiAtlas.LOCATION);
+        for (int i = 0; i < aliveCount; i++) {
+            AshwakeUiAtlas.Sprite sprite = atlasSprites[variant[i]];
             float lifeRatio = 1F - (life[i] / maxLife[i]);
-            int alpha = Mth.clamp((int) (lifeRatio * 210F), 28, 210);
-            int ix = Mth.floor(x[i]);
-            int iy = Mth.floor(y[i]);
-            if (!drawEmberTexture(graphics, ix, iy, lifeRatio, variant[i])) {
-                int color = (alpha << 24) | (AshwakePalette.EMBER_ORANGE & 0x00FFFFFF);
-                graphics.fill(ix, iy, ix + 2, iy + 2, color);
-            }
+            int size = emberSize(lifeRatio);
+            int drawX = Mth.floor(Mth.lerp(alpha, prevX[i], x[i])) - (size / 2);
+            int drawY = Mth.floor(Mth.lerp(alpha, prevY[i], y[i])) - (size / 2);
+            float uv = size / (float) EMBER_TEXTURE_SIZE;
+            batch.quad(drawX, drawY, drawX + size, drawY + size, sprite.u0(), sprite.v0(), sprite.u(uv), sprite.v(uv));
         }
+        batch.end();
+    }
 
-        // If all particles are gone, avoid stale timestamps causing burst spawns.
-        if (aliveCount == 0) {
-            lastFrameNanos = Util.getNanos();
+    private void renderVariant(GuiGraphics graphics, int variantIndex, float alpha) {
+        ResourceLocation texture = EMBER_TEXTURES[variantIndex];
+        if (AshwakeUiSkin.hasTexture(texture)) {
+            AshwakeQuadBatch batch = AshwakeQuadBatch.begin(graphics, texture);
+            for (int i = 0; i < aliveCount; i++) {
+                if (variant[i] == variantIndex) {
+                    float lifeRatio = 1F - (life[i] / maxLife[i]);
+                    int size = emberSize(lifeRatio);
+                    int drawX = Mth.floor(Mth.lerp(alpha, prevX[i], x[i])) - (size / 2);
+                    int drawY = Mth.floor(Mth.lerp(alpha, prevY[i], y[i])) - (size / 2);
+                    float uv = size / (float) EMBER_TEXTURE_SIZE;
+                    batch.quad(drawX, drawY, drawX + size, drawY + size, 0.0F, 0.0F, uv, uv);
+                }
+            }
+            batch.end();
+            return;
         }
+
+        // Missing sprite: fall back to flat squares, still flushed as one managed batch.
+        graphics.drawManaged(() -> {
+            for (int i = 0; i < aliveCount; i++) {
+                if (variant[i] == variantIndex) {
+                    float lifeRatio = 1F - (life[i] / maxLife[i]);
+                    int fillAlpha = Mth.clamp((int) (lifeRatio * 210F), 28, 210);
+                    int ix = Mth.floor(Mth.lerp(alpha, prevX[i], x[i]));
+                    int iy = Mth.floor(Mth.lerp(alpha, prevY[i], y[i]));
+                    int color = (fillAlpha << 24) | (AshwakePalette.EMBER_ORANGE & 0x00FFFFFF);
+                    graphics.fill(ix, iy, ix + 2, iy + 2, color);
+                }
+            }
+        });
     }
 
-    private void spawnParticle(int width, int height, boolean reducedMotion) {
-        int index = nextIndex++;
-        if (nextIndex >= MAX_PARTICLES) {
-            nextIndex = 0;
+    private boolean spawnParticle(int width, int height, boolean reducedMotion, int limit) {
+        // Never recycle a live ember; when the pool is full the spawn is simply dropped.
+        if (aliveCount >= limit || (aliveCount >= capacity && !grow(limit))) {
+            return false;
         }
 
+        int index = aliveCount++;
         active[index] = true;
         x[index] = random.nextFloat() * width;
         y[index] = height + random.nextFloat() * 12F;
+        prevX[index] = x[index];
+        prevY[index] = y[index];
         vx[index] = (random.nextFloat() - 0.5F) * (reducedMotion ? 8F : 20F);
         vy[index] = -(18F + random.nextFloat() * (reducedMotion ? 14F : 36F));
         life[index] = 0F;
         maxLife[index] = 1.5F + random.nextFloat() * (reducedMotion ? 1.0F : 2.0F);
         variant[index] = random.nextInt(EMBER_TEXTURES.length);
+        return true;
+    }
+
+    private void moveParticle(int from, int to) {
+        active[to] = active[from];
+        x[to] = x[from];
+        y[to] = y[from];
+        prevX[to] = prevX[from];
+        prevY[to] = prevY[from];
+        vx[to] = vx[from];
+        vy[to] = vy[from];
+        life[to] = life[from];
+        maxLife[to] = maxLife[from];
+        variant[to] = variant[from];
     }
 
-    private static boolean drawEmberTexture(
-            GuiGraphics guiGraphics,
-            int x,
-            int y,
-            float lifeRatio,
-            int variantIndex) {
-        ResourceLocation texture = EMBER_TEXTURES[Math.floorMod(variantIndex, EMBER_TEXTURES.length)];
-        if (!AshwakeUiSkin.hasTexture(texture)) {
+    private boolean grow(int limit) {
+        int newCapacity = Math.min(Math.max(limit, INITIAL_CAPACITY), capacity * 2);
+        if (newCapacity <= capacity) {
             return false;
         }
-
-        int size = lifeRatio > 0.66F ? 4 : (lifeRatio > 0.33F ? 3 : 2);
-        int drawX = x - (size / 2);
-        int drawY = y - (size / 2);
-        guiGraphics.blit(texture, drawX, drawY, 0, 0, size, size, 16, 16);
+        active = Arrays.copyOf(active, newCapacity);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        prevX = Arrays.copyOf(prevX, newCapacity);
+        prevY = Arrays.copyOf(prevY, newCapacity);
+        vx = Arrays.copyOf(vx, newCapacity);
+        vy = Arrays.copyOf(vy, newCapacity);
+        life = Arrays.copyOf(life, newCapacity);
+        maxLife = Arrays.copyOf(maxLife, newCapacity);
+        variant = Arrays.copyOf(variant, newCapacity);
+        capacity = newCapacity;
         return true;
     }
+
+    private static Supplier<short[]> constant(short[] field) {
+        return () -> field;
+    }
+
+    private static int emberSize(float lifeRatio) {
+        return lifeRatio > 0.66F ? 4 : (lifeRatio > 0.33F ? 3 : 2);
+    }
 }
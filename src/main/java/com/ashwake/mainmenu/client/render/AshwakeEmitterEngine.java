@@ -0,0 +1,213 @@
+package com.ashwake.mainmenu.client.render;
+
+import com.ashwake.mainmenu.AshwakeMainMenuMod;
+import com.ashwake.mainmenu.api.ParticleEmitterSpec;
+import com.ashwake.mainmenu.api.ParticleSpawner;
+import com.ashwake.mainmenu.config.AshwakeClientConfig;
+import com.ashwake.mainmenu.config.AshwakeClientConfig.PerformancePreset;
+import com.ashwake.mainmenu.internal.AshwakeMenuApiImpl;
+import com.ashwake.mainmenu.internal.AshwakeMenuApiImpl.EmitterRegistration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.util.Mth;
+
+// Runs third-party emitters registered through AshwakeMenuApi under per-emitter particle and sim-time budgets.
+final class AshwakeEmitterEngine {
+    // Consecutive over-budget frames before an emitter is switched off for the session.
+    private static final int OVERRUN_FRAMES_TO_DISABLE = 30;
+    private static final float CULL_MARGIN = 16.0F;
+
+    private final Map<String, Slot> slots = new LinkedHashMap<>();
+
+    private int builtRevision = -1;
+    private long lastFrameNanos = AshwakeAnimationClock.nanos();
+
+    void render(GuiGraphics graphics, int width, int height, boolean enabled, boolean reducedMotion) {
+        long now = AshwakeAnimationClock.nanos();
+        float dt = Mth.clamp((now - lastFrameNanos) / 1_000_000_000F, 0.0F, 0.1F);
+        lastFrameNanos = now;
+
+        syncRegistrations();
+        if (!enabled || slots.isEmpty()) {
+            return;
+        }
+
+        float scale = budgetScale(reducedMotion);
+        for (Slot slot : slots.values()) {
+            slot.simulate(dt, width, height, scale);
+        }
+        graphics.drawManaged(() -> {
+            for (Slot slot : slots.values()) {
+                slot.render(graphics);
+            }
+        });
+    }
+
+    void resumeClock() {
+        lastFrameNanos = AshwakeAnimationClock.nanos();
+    }
+
+    long footprintBytes() {
+        long total = 0L;
+        for (Slot slot : slots.values()) {
+            total += slot.footprintBytes();
+        }
+        return total;
+    }
+
+    // The performance preset scales every emitter's particle budget together; custom settings follow particle density.
+    private static float budgetScale(boolean reducedMotion) {
+        PerformancePreset preset = AshwakeClientConfig.activePreset();
+        float scale = preset == null ? AshwakeClientConfig.particleDensity() / 100.0F : switch (preset) {
+            case LOW -> 0.25F;
+            case MEDIUM -> 0.6F;
+            case HIGH -> 1.0F;
+            case AUTO -> AshwakeFrameGovernor.scale();
+        };
+        return reducedMotion ? scale * 0.5F : scale;
+    }
+
+    private void syncRegistrations() {
+        AshwakeMenuApiImpl api = AshwakeMenuApiImpl.getInstance();
+        int revision = api.particleEmitterRevision();
+        if (revision == builtRevision) {
+            return;
+        }
+        builtRevision = revision;
+
+        Map<String, Slot> previous = new LinkedHashMap<>(slots);
+        slots.clear();
+        for (EmitterRegistration registration : api.getParticleEmitters()) {
+            String id = registration.spec().id();
+            Slot existing = previous.get(id);
+            // Every registration call gets a fresh slot, which also re-enables a previously disabled emitter.
+            slots.put(id, existing != null && existing.token == registration.token() ? existing : new Slot(registration));
+        }
+    }
+
+    private static final class Slot implements ParticleSpawner {
+        private static final int FLOATS = 7;
+
+        private final ParticleEmitterSpec spec;
+        private final int token;
+        // Per particle: x, y, vx, vy, life, maxLife, size; live particles are packed into [0, count).
+        private final float[] data;
+        private final int[] color;
+
+        private int count;
+        private int limit;
+        private int overrunFrames;
+        private boolean disabled;
+
+        Slot(EmitterRegistration registration) {
+            this.spec = registration.spec();
+            this.token = registration.token();
+            this.data = new float[spec.particleBudget() * FLOATS];
+            this.color = new int[spec.particleBudget()];
+        }
+
+        @Override
+        public boolean spawn(float x, float y, float velocityX, float velocityY, float lifeSeconds, float size, int argb) {
+            if (disabled || count >= limit) {
+                return false;
+            }
+            if (!Float.isFinite(x) || !Float.isFinite(y) || !Float.isFinite(velocityX) || !Float.isFinite(velocityY)
+                    || !(lifeSeconds > 0.0F) || !(size > 0.0F)) {
+                return false;
+            }
+            int base = count * FLOATS;
+            data[base] = x;
+            data[base + 1] = y;
+            data[base + 2] = velocityX;
+            data[base + 3] = velocityY;
+            data[base + 4] = 0.0F;
+            data[base + 5] = lifeSeconds;
+            data[base + 6] = Math.min(size, 16.0F);
+            color[count] = argb;
+            count++;
+            return true;
+        }
+
+        @Override
+        public int remainingBudget() {
+            return disabled ? 0 : Math.max(0, limit - count);
+        }
+
+        void simulate(float dt, int width, int height, float scale) {
+            if (disabled) {
+                return;
+            }
+            limit = Math.max(0, Math.round(spec.particleBudget() * scale));
+            count = Math.min(count, limit);
+
+            long started = System.nanoTime();
+            try {
+                spec.emitter().emit(this, dt, width, height);
+            } catch (Throwable throwable) {
+                disable("threw an exception", throwable);
+                return;
+            }
+            integrate(dt, width, height);
+
+            long elapsedMicros = (System.nanoTime() - started) / 1_000L;
+            if (elapsedMicros <= spec.simBudgetMicros()) {
+                overrunFrames = 0;
+            } else if (++overrunFrames >= OVERRUN_FRAMES_TO_DISABLE) {
+                disable("exceeded its " + spec.simBudgetMicros() + " us sim budget for " + overrunFrames + " frames", null);
+            }
+        }
+
+        void render(GuiGraphics graphics) {
+            for (int i = 0; i < count; i++) {
+                int base = i * FLOATS;
+                float lifeRatio = 1.0F - (data[base + 4] / data[base + 5]);
+                int alpha = Mth.clamp((int) (((color[i] >>> 24) & 0xFF) * lifeRatio), 0, 255);
+                if (alpha <= 0) {
+                    continue;
+                }
+                int size = Math.max(1, Math.round(data[base + 6]));
+                int drawX = Mth.floor(data[base]);
+                int drawY = Mth.floor(data[base + 1]);
+                graphics.fill(drawX, drawY, drawX + size, drawY + size, (alpha << 24) | (color[i] & 0x00FFFFFF));
+            }
+        }
+
+        long footprintBytes() {
+            return (long) data.length * Float.BYTES + (long) color.length * Integer.BYTES;
+        }
+
+        private void integrate(float dt, int width, int height) {
+            float gravity = spec.gravity();
+            int i = 0;
+            while (i < count) {
+                int base = i * FLOATS;
+                data[base + 4] += dt;
+                data[base] += data[base + 2] * dt;
+                data[base + 1] += data[base + 3] * dt;
+                data[base + 3] += gravity * dt;
+                float px = data[base];
+                float py = data[base + 1];
+                if (data[base + 4] >= data[base + 5]
+                        || px < -CULL_MARGIN || px > width + CULL_MARGIN
+                        || py < -CULL_MARGIN || py > height + CULL_MARGIN) {
+                    int last = --count;
+                    System.arraycopy(data, last * FLOATS, data, base, FLOATS);
+                    color[i] = color[last];
+                    continue;
+                }
+                i++;
+            }
+        }
+
+        private void disable(String reason, Throwable throwable) {
+            disabled = true;
+            count = 0;
+            if (throwable != null) {
+                AshwakeMainMenuMod.LOGGER.warn("Ashwake particle emitter [{}] {}; disabled", spec.id(), reason, throwable);
+            } else {
+                AshwakeMainMenuMod.LOGGER.warn("Ashwake particle emitter [{}] {}; disabled", spec.id(), reason);
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.ashwake.mainmenu.client.render;
+
+import com.ashwake.mainmenu.AshwakeMainMenuMod;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimplePreparableReloadListener;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.util.profiling.ProfilerFiller;
+
+// Tileable curl-noise velocity field for ember drift. Built off-thread on every resource reload; sampling is a lookup and a lerp.
+public final class AshwakeFlowField extends SimplePreparableReloadListener<short[]> {
+    private static final AshwakeFlowField INSTANCE = new AshwakeFlowField();
+    private static final int SHIFT = 6;
+    private static final int SIZE = 1 << SHIFT;
+    private static final int MASK = SIZE - 1;
+    private static final long SEED = 0x41534857414B45L;
+    // Lattice periods must divide SIZE so every octave wraps seamlessly.
+    private static final int[] OCTAVE_PERIODS = {16, 8, 4};
+    private static final float[] OCTAVE_WEIGHTS = {1.0F, 0.5F, 0.25F};
+    private static final float CELL_PIXELS = 28.0F;
+    // The field scrolls upward with the embers so motion keeps evolving instead of freezing in place.
+    private static final float SCROLL_CELLS_PER_SECOND = 0.35F;
+
+    // Interleaved (vx, vy) per cell, scaled to the full short range.
+    private volatile short[] field;
+
+    private AshwakeFlowField() {
+    }
+
+    public static AshwakeFlowField reloadListener() {
+        return INSTANCE;
+    }
+
+    // Null until the first reload has finished; embers simply drift without turbulence until then.
+    static short[] current() {
+        return INSTANCE.field;
+    }
+
+    // Headless callers have no reload cycle, so they build the same field synchronously.
+    static short[] ensureGenerated() {
+        short[] current = INSTANCE.field;
+        if (current == null) {
+            current = generate(SEED);
+            INSTANCE.field = current;
+        }
+        return current;
+    }
+
+    static float advanceScroll(float scroll, float dt) {
+        return (scroll + SCROLL_CELLS_PER_SECOND * dt) % SIZE;
+    }
+
+    // Adds the sampled field velocity, scaled by impulse, to every live ember.
+    static void advect(short[] field, boolean[] active, float[] x, float[] y, float[] vx, float[] vy, int count, float impulse, float scroll) {
+        float inverseCell = 1.0F / CELL_PIXELS;
+        float scale = impulse / Short.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            if (!active[i]) {
+                continue;
+            }
+            float u = x[i] * inverseCell;
+            float v = y[i] * inverseCell + scroll;
+            int u0 = Mth.floor(u);
+            int v0 = Mth.floor(v);
+            float fu = u - u0;
+            float fv = v - v0;
+            int row0 = (v0 & MASK) << SHIFT;
+            int row1 = ((v0 + 1) & MASK) << SHIFT;
+            int col0 = u0 & MASK;
+            int col1 = (u0 + 1) & MASK;
+            int i00 = (row0 | col0) << 1;
+            int i10 = (row0 | col1) << 1;
+            int i01 = (row1 | col0) << 1;
+            int i11 = (row1 | col1) << 1;
+
+            float top = Mth.lerp(fu, field[i00], field[i10]);
+            float bottom = Mth.lerp(fu, field[i01], field[i11]);
+            vx[i] += Mth.lerp(fv, top, bottom) * scale;
+            top = Mth.lerp(fu, field[i00 + 1], field[i10 + 1]);
+            bottom = Mth.lerp(fu, field[i01 + 1], field[i11 + 1]);
+            vy[i] += Mth.lerp(fv, top, bottom) * scale;
+        }
+    }
+
+    @Override
+    protected short[] prepare(ResourceManager resourceManager, ProfilerFiller profiler) {
+        long started = System.nanoTime();
+        short[] generated = generate(SEED);
+        AshwakeMainMenuMod.LOGGER.debug(
+                "Ashwake flow field generated: {}x{} ({} KiB) in {} us",
+                SIZE,
+                SIZE,
+                (generated.length * (long) Short.BYTES) / 1024L,
+                (System.nanoTime() - started) / 1_000L);
+        return generated;
+    }
+
+    @Override
+    protected void apply(short[] prepared, ResourceManager resourceManager, ProfilerFiller profiler) {
+        field = prepared;
+    }
+
+    private static short[] generate(long seed) {
+        RandomSource random = RandomSource.create(seed);
+        float[] potential = new float[SIZE * SIZE];
+        for (int octave = 0; octave < OCTAVE_PERIODS.length; octave++) {
+            addValueNoise(potential, random, OCTAVE_PERIODS[octave], OCTAVE_WEIGHTS[octave]);
+        }
+
+        // Curl of a scalar potential is divergence-free, so embers swirl rather than bunch up or thin out.
+        float[] curl = new float[SIZE * SIZE * 2];
+        float maxMagnitude = 0.0F;
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                float dy = potential[index(col, row + 1)] - potential[index(col, row - 1)];
+                float dx = potential[index(col + 1, row)] - potential[index(col - 1, row)];
+                int base = index(col, row) << 1;
+                curl[base] = dy * 0.5F;
+                curl[base + 1] = -dx * 0.5F;
+                maxMagnitude = Math.max(maxMagnitude, Math.max(Math.abs(curl[base]), Math.abs(curl[base + 1])));
+            }
+        }
+
+        short[] packed = new short[curl.length];
+        float quantize = maxMagnitude > 0.0F ? Short.MAX_VALUE / maxMagnitude : 0.0F;
+        for (int i = 0; i < curl.length; i++) {
+            packed[i] = (short) Math.round(curl[i] * quantize);
+        }
+        return packed;
+    }
+
+    private static void addValueNoise(float[] target, RandomSource random, int period, float weight) {
+        int lattice = SIZE / period;
+        float[] values = new float[lattice * lattice];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextFloat() * 2.0F - 1.0F;
+        }
+        for (int row = 0; row < SIZE; row++) {
+            int cellY = row / period;
+            float fy = smooth((row % period) / (float) period);
+            int y0 = cellY * lattice;
+            int y1 = ((cellY + 1) % lattice) * lattice;
+            for (int col = 0; col < SIZE; col++) {
+                int cellX = col / period;
+                float fx = smooth((col % period) / (float) period);
+                int x1 = (cellX + 1) % lattice;
+                float top = Mth.lerp(fx, values[y0 + cellX], values[y0 + x1]);
+                float bottom = Mth.lerp(fx, values[y1 + cellX], values[y1 + x1]);
+                target[row * SIZE + col] += Mth.lerp(fy, top, bottom) * weight;
+            }
+        }
+    }
+
+    private static float smooth(float t) {
+        return t * t * (3.0F - 2.0F * t);
+    }
+
+    private static int index(int col, int row) {
+        return ((row & MASK) << SHIFT) | (col & MASK);
+    }
+}
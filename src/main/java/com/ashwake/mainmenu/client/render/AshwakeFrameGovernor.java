@@ -0,0 +1,108 @@
+package com.ashwake.mainmenu.client.render;
+
+import com.ashwake.mainmenu.AshwakeMainMenuMod;
+import com.ashwake.mainmenu.config.AshwakeClientConfig;
+import com.ashwake.mainmenu.config.AshwakeClientConfig.PerformancePreset;
+import net.minecraft.Util;
+import net.minecraft.client.Minecraft;
+import net.minecraft.util.Mth;
+
+// Scales effective visual settings under the AUTO preset; nothing here is written back to the config.
+public final class AshwakeFrameGovernor {
+    private static final int WINDOW = 120;
+    private static final long MIN_FRAME_NANOS = 500_000L;
+    private static final long MAX_FRAME_NANOS = 250_000_000L;
+    // Vanilla caps menus at 60 FPS, so a capped frame rate already means there is headroom.
+    private static final int MENU_FPS_CAP = 60;
+    // Hysteresis band around the budget: above the upper bound steps down, within the lower bound steps up.
+    private static final float STEP_DOWN_RATIO = 1.25F;
+    private static final float STEP_UP_RATIO = 1.05F;
+    private static final float STEP_DOWN = 0.10F;
+    private static final float STEP_UP = 0.05F;
+    private static final float MIN_SCALE = 0.25F;
+
+    private static final long[] FRAME_NANOS = new long[WINDOW];
+
+    private static int samples;
+    private static int cursor;
+    private static long lastFrameNanos;
+    private static float scale = 1.0F;
+
+    private AshwakeFrameGovernor() {
+    }
+
+    public static void onFrame() {
+        long now = Util.getNanos();
+        long frame = now - lastFrameNanos;
+        lastFrameNanos = now;
+        if (!active()) {
+            resetWindow();
+            scale = 1.0F;
+            return;
+        }
+        // Repeated calls within one frame, long gaps (screen switches, pauses) and throttled inactive frames are not frame times.
+        if (frame < MIN_FRAME_NANOS || frame > MAX_FRAME_NANOS || AshwakeAnimationClock.frozen()) {
+            return;
+        }
+
+        FRAME_NANOS[cursor] = frame;
+        cursor = (cursor + 1) % WINDOW;
+        if (++samples < WINDOW) {
+            return;
+        }
+
+        long total = 0L;
+        for (long sample : FRAME_NANOS) {
+            total += sample;
+        }
+        float average = total / (float) WINDOW;
+        float budget = 1_000_000_000F / targetFps();
+        float previous = scale;
+        if (average > budget * STEP_DOWN_RATIO) {
+            scale = Math.max(MIN_SCALE, scale - STEP_DOWN);
+        } else if (average <= budget * STEP_UP_RATIO) {
+            scale = Math.min(1.0F, scale + STEP_UP);
+        }
+        // Each adjustment waits for a full fresh window so one change is measured before the next.
+        resetWindow();
+        if (scale != previous) {
+            AshwakeMainMenuMod.LOGGER.debug(
+                    "Ashwake frame governor: {} ms average over {} frames, visual scale {} -> {}",
+                    String.format("%.2f", average / 1_000_000F),
+                    WINDOW,
+                    previous,
+                    scale);
+        }
+    }
+
+    // Hand-tuned values (shown as CUSTOM) are left alone even while AUTO is still the stored preset.
+    public static boolean active() {
+        return AshwakeClientConfig.matchesPreset(PerformancePreset.AUTO);
+    }
+
+    public static float scale() {
+        return scale;
+    }
+
+    public static int particleDensity(int configured) {
+        return active() ? Math.round(configured * scale) : configured;
+    }
+
+    public static int hoverParticleDensity(int configured) {
+        return active() ? Math.round(configured * scale) : configured;
+    }
+
+    // Animation intensity also drives motion, so it is scaled more gently than particle counts.
+    public static int animationIntensity(int configured) {
+        return active() ? Math.round(configured * Mth.lerp(scale, 0.6F, 1.0F)) : configured;
+    }
+
+    private static int targetFps() {
+        return Math.max(1, Math.min(MENU_FPS_CAP, Minecraft.getInstance().getWindow().getFramerateLimit()));
+    }
+
+    private static void resetWindow() {
+        samples = 0;
+        cursor = 0;
+    }
+}
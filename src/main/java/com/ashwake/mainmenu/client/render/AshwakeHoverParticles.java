@@ -0,0 +1,374 @@
+package com.ashwake.mainmenu.client.render;
+
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+
+// One pool serves every AshwakeButton; each button borrows slots through its Emitter, bounded by a
+// per-emitter soft cap and the pool-wide cap.
+public final class AshwakeHoverParticles {
+    private static final int MAX_PARTICLES = 384;
+    private static final float HOVER_ENTER_SPEED = 8.0F;
+    private static final float HOVER_EXIT_SPEED = 6.4F;
+    private static final float MAX_FRAME_SECONDS = 0.075F;
+    private static final float ENTER_THRESHOLD = 0.01F;
+    private static final float AMBIENT_THRESHOLD = 0.15F;
+    private static final AshwakeHoverParticles SHARED = new AshwakeHoverParticles(RandomSource.create(), AshwakeParticleTelemetry.Source.HOVER);
+
+    // Live particles occupy [0, activeCount); deaths swap-remove the last one into the freed slot.
+    private final Emitter[] owner = new Emitter[MAX_PARTICLES];
+    private final float[] x = new float[MAX_PARTICLES];
+    private final float[] y = new float[MAX_PARTICLES];
+    private final float[] vx = new float[MAX_PARTICLES];
+    private final float[] vy = new float[MAX_PARTICLES];
+    private final float[] life = new float[MAX_PARTICLES];
+    private final float[] maxLife = new float[MAX_PARTICLES];
+    private final float[] size = new float[MAX_PARTICLES];
+    private final float[] alpha = new float[MAX_PARTICLES];
+
+    private final RandomSource random;
+    private final AshwakeParticleTelemetry.Source telemetrySource;
+    private int activeCount;
+    private long lastFrameNanos = AshwakeAnimationClock.nanos();
+    private boolean renderedThisFrame;
+    private int frameSpawned;
+    private int frameDropped;
+    private long frameSimNanos;
+    private long frameRenderNanos;
+
+    public AshwakeHoverParticles() {
+        this(RandomSource.create());
+    }
+
+    // Seeded instances replay identically for the same sequence of calls.
+    public AshwakeHoverParticles(RandomSource random) {
+        this(random, null);
+    }
+
+    private AshwakeHoverParticles(RandomSource random, AshwakeParticleTelemetry.Source telemetrySource) {
+        this.random = random;
+        this.telemetrySource = telemetrySource;
+    }
+
+    public static AshwakeHoverParticles shared() {
+        return SHARED;
+    }
+
+    public Emitter createEmitter() {
+        return new Emitter();
+    }
+
+    public static float animateHoverProgress(float current, boolean hovered, float dt) {
+        float speed = hovered ? HOVER_ENTER_SPEED : HOVER_EXIT_SPEED;
+        if (hovered) {
+            return Mth.clamp(current + speed * dt, 0.0F, 1.0F);
+        }
+        return Mth.clamp(current - speed * dt, 0.0F, 1.0F);
+    }
+
+    public static boolean entered(float previousProgress, float progress) {
+        return progress > ENTER_THRESHOLD && previousProgress <= ENTER_THRESHOLD;
+    }
+
+    // One button frame: advances the hover progress and spawns the enter burst and ambient particles it calls for.
+    // AshwakeButton and AshwakeParticleReplay both go through here so replays follow the real gating.
+    public float stepButton(
+            Emitter emitter,
+            float hoverProgress,
+            boolean hovered,
+            boolean emitParticles,
+            boolean reducedMotion,
+            int buttonX,
+            int buttonY,
+            int buttonWidth,
+            int buttonHeight,
+            float dt,
+            float densityScale) {
+        float progress = animateHoverProgress(hoverProgress, hovered, dt);
+        if (emitParticles && entered(hoverProgress, progress)) {
+            emitEnterBurst(emitter, buttonX, buttonY, buttonWidth, buttonHeight, densityScale);
+        }
+        if (emitParticles && hovered && progress > AMBIENT_THRESHOLD && !reducedMotion) {
+            emitAmbient(emitter, buttonX, buttonY, buttonWidth, buttonHeight, dt, progress, densityScale);
+        } else {
+            emitter.resetAmbient();
+        }
+        return progress;
+    }
+
+    public void emitEnterBurst(Emitter emitter, int buttonX, int buttonY, int buttonWidth, int buttonHeight, float densityScale) {
+        int count = Mth.clamp(8 + Math.round(densityScale * 10.0F), 8, 18);
+        int softCap = 14 + (int) (densityScale * 28);
+        spawnBurst(emitter, buttonX, buttonY, buttonWidth, buttonHeight, count, 0.40F, 0.80F, 20F, 42F, 0.50F, 0.88F, 1.0F, 2.9F, softCap);
+    }
+
+    public void emitClickBurst(Emitter emitter, int buttonX, int buttonY, int buttonWidth, int buttonHeight, float densityScale) {
+        int count = Mth.clamp(16 + Math.round(densityScale * 12.0F), 16, 28);
+        int softCap = 22 + (int) (densityScale * 36);
+        spawnBurst(emitter, buttonX, buttonY, buttonWidth, buttonHeight, count, 0.40F, 0.85F, 30F, 56F, 0.68F, 1.0F, 1.0F, 3.5F, softCap);
+    }
+
+    public void emitAmbient(
+            Emitter emitter,
+            int buttonX,
+            int buttonY,
+            int buttonWidth,
+            int buttonHeight,
+            float dt,
+            float hoverProgress,
+            float densityScale) {
+        float ambientRate = Mth.lerp(hoverProgress, 1.0F, 4.0F) * densityScale;
+        emitter.ambientAccumulator += ambientRate * dt;
+
+        int softCap = 8 + (int) (densityScale * 22);
+        while (emitter.ambientAccumulator >= 1.0F) {
+            emitter.ambientAccumulator -= 1.0F;
+            spawnFromTopOrCorners(emitter, buttonX, buttonY, buttonWidth, buttonHeight, 0.45F, 0.9F, 9F, 18F, 0.22F, 0.44F, 1.0F, 2.2F, softCap);
+        }
+    }
+
+    // Shared pool only: advances every button's particles once per screen frame.
+    public void beginFrame() {
+        long now = AshwakeAnimationClock.nanos();
+        float dt = Mth.clamp((now - lastFrameNanos) / 1_000_000_000F, 0.0F, MAX_FRAME_SECONDS);
+        lastFrameNanos = now;
+        // Spawns and draws happen after this call, so each call closes out the previous frame's sample.
+        // Frames where no Ashwake button drew the pool (vanilla and third-party screens) are not sampled.
+        if (telemetrySource != null && renderedThisFrame) {
+            AshwakeParticleTelemetry.record(telemetrySource, activeCount, frameSpawned, frameDropped, frameSimNanos, frameRenderNanos);
+        }
+        frameSpawned = 0;
+        frameDropped = 0;
+        frameRenderNanos = 0L;
+        renderedThisFrame = false;
+
+        long simStarted = System.nanoTime();
+        update(dt);
+        frameSimNanos = System.nanoTime() - simStarted;
+    }
+
+    // The first button drawn each frame flushes the whole pool, so particles stay beneath every button body.
+    public void renderOnce(GuiGraphics guiGraphics) {
+        if (renderedThisFrame) {
+            return;
+        }
+        renderedThisFrame = true;
+        long renderStarted = System.nanoTime();
+        render(guiGraphics);
+        frameRenderNanos = System.nanoTime() - renderStarted;
+    }
+
+    public void update(float dt) {
+        int i = 0;
+        while (i < activeCount) {
+            life[i] += dt;
+            if (life[i] >= maxLife[i]) {
+                removeParticle(i);
+                continue;
+            }
+
+            x[i] += vx[i] * dt;
+            y[i] += vy[i] * dt;
+            vy[i] += 28F * dt;
+            i++;
+        }
+    }
+
+    public void render(GuiGraphics guiGraphics) {
+        if (activeCount == 0) {
+            return;
+        }
+        guiGraphics.drawManaged(() -> {
+            for (int i = 0; i < activeCount; i++) {
+                float lifeRatio = 1.0F - (life[i] / maxLife[i]);
+                int drawAlpha = Mth.clamp((int) (alpha[i] * lifeRatio * lifeRatio * 255.0F), 0, 255);
+                if (drawAlpha <= 0) {
+                    continue;
+                }
+
+                int drawSize = Math.max(1, Math.round(size[i]));
+                int color = (drawAlpha << 24) | colorFromLife(lifeRatio);
+                int drawX = Mth.floor(x[i]);
+                int drawY = Mth.floor(y[i]);
+                guiGraphics.fill(drawX, drawY, drawX + drawSize, drawY + drawSize, color);
+            }
+        });
+    }
+
+    public void clear() {
+        for (int i = 0; i < activeCount; i++) {
+            owner[i].liveCount = 0;
+            owner[i] = null;
+        }
+        activeCount = 0;
+    }
+
+    public void clear(Emitter emitter) {
+        emitter.ambientAccumulator = 0F;
+        int i = 0;
+        while (i < activeCount && emitter.liveCount > 0) {
+            if (owner[i] == emitter) {
+                removeParticle(i);
+                continue;
+            }
+            i++;
+        }
+    }
+
+    public int activeCount() {
+        return activeCount;
+    }
+
+    public long stateHash() {
+        long hash = activeCount;
+        for (int i = 0; i < activeCount; i++) {
+            hash = hash * 31L + Float.floatToIntBits(x[i]);
+            hash = hash * 31L + Float.floatToIntBits(y[i]);
+            hash = hash * 31L + Float.floatToIntBits(vx[i]);
+            hash = hash * 31L + Float.floatToIntBits(vy[i]);
+            hash = hash * 31L + Float.floatToIntBits(life[i]);
+            hash = hash * 31L + Float.floatToIntBits(maxLife[i]);
+            hash = hash * 31L + Float.floatToIntBits(size[i]);
+            hash = hash * 31L + Float.floatToIntBits(alpha[i]);
+        }
+        return hash;
+    }
+
+    private void spawnBurst(
+            Emitter emitter,
+            int buttonX,
+            int buttonY,
+            int buttonWidth,
+            int buttonHeight,
+            int count,
+            float minLife,
+            float maxLife,
+            float minSpeed,
+            float maxSpeed,
+            float minAlpha,
+            float maxAlpha,
+            float minSize,
+            float maxSize,
+            int softCap) {
+        for (int i = 0; i < count; i++) {
+            spawnFromTopOrCorners(
+                    emitter,
+                    buttonX,
+                    buttonY,
+                    buttonWidth,
+                    buttonHeight,
+                    minLife,
+                    maxLife,
+                    minSpeed,
+                    maxSpeed,
+                    minAlpha,
+                    maxAlpha,
+                    minSize,
+                    maxSize,
+                    softCap);
+        }
+    }
+
+    private void spawnFromTopOrCorners(
+            Emitter emitter,
+            int buttonX,
+            int buttonY,
+            int buttonWidth,
+            int buttonHeight,
+            float minLife,
+            float maxLifeValue,
+            float minSpeed,
+            float maxSpeed,
+            float minAlpha,
+            float maxAlphaValue,
+            float minSize,
+            float maxSizeValue,
+            int softCap) {
+        // Spawns past either cap are dropped rather than recycling a live particle.
+        if (emitter.liveCount >= softCap || activeCount >= MAX_PARTICLES) {
+            frameDropped++;
+            return;
+        }
+        frameSpawned++;
+        int index = activeCount++;
+        owner[index] = emitter;
+        emitter.liveCount++;
+
+        float spawnX;
+        float spawnY;
+        int source = random.nextInt(10);
+        if (source < 6) {
+            // Mostly top-edge emitters for subtle upward drift.
+            spawnX = buttonX + 2 + random.nextFloat() * Math.max(2, buttonWidth - 4);
+            spawnY = buttonY + 1 + random.nextFloat() * 2.0F;
+        } else if (source < 8) {
+            // Top-left corner cluster.
+            spawnX = buttonX + 2 + random.nextFloat() * 6.0F;
+            spawnY = buttonY + 1 + random.nextFloat() * 4.0F;
+        } else {
+            // Top-right corner cluster.
+            spawnX = buttonX + buttonWidth - 2 - random.nextFloat() * 6.0F;
+            spawnY = buttonY + 1 + random.nextFloat() * 4.0F;
+        }
+
+        float speed = Mth.lerp(random.nextFloat(), minSpeed, maxSpeed);
+        x[index] = spawnX;
+        y[index] = spawnY;
+        vx[index] = (random.nextFloat() - 0.5F) * speed;
+        vy[index] = -(0.6F + random.nextFloat() * 0.8F) * speed;
+        life[index] = 0F;
+        maxLife[index] = Mth.lerp(random.nextFloat(), minLife, maxLifeValue);
+        size[index] = Mth.lerp(random.nextFloat(), minSize, maxSizeValue);
+        alpha[index] = Mth.lerp(random.nextFloat(), minAlpha, maxAlphaValue);
+    }
+
+    private void removeParticle(int index) {
+        owner[index].liveCount--;
+        int last = --activeCount;
+        moveParticle(last, index);
+        owner[last] = null;
+    }
+
+    private void moveParticle(int from, int to) {
+        owner[to] = owner[from];
+        x[to] = x[from];
+        y[to] = y[from];
+        vx[to] = vx[from];
+        vy[to] = vy[from];
+        life[to] = life[from];
+        maxLife[to] = maxLife[from];
+        size[to] = size[from];
+        alpha[to] = alpha[from];
+    }
+
+    private static int colorFromLife(float lifeRatio) {
+        int from = AshwakePalette.EMBER_ORANGE;
+        int to = AshwakePalette.LAVA_YELLOW;
+        int r1 = (from >> 16) & 0xFF;
+        int g1 = (from >> 8) & 0xFF;
+        int b1 = from & 0xFF;
+        int r2 = (to >> 16) & 0xFF;
+        int g2 = (to >> 8) & 0xFF;
+        int b2 = to & 0xFF;
+        int r = Mth.clamp((int) Mth.lerp(lifeRatio, r1, r2), 0, 255);
+        int g = Mth.clamp((int) Mth.lerp(lifeRatio, g1, g2), 0, 255);
+        int b = Mth.clamp((int) Mth.lerp(lifeRatio, b1, b2), 0, 255);
+        return (r << 16) | (g << 8) | b;
+    }
+
+    public static final class Emitter {
+        private int liveCount;
+        private float ambientAccumulator;
+
+        private Emitter() {
+        }
+
+        public void resetAmbient() {
+            ambientAccumulator = 0F;
+        }
+
+        public int liveCount() {
+            return liveCount;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.ashwake.mainmenu.client.render;
+
+import com.mojang.blaze3d.pipeline.RenderTarget;
+import com.mojang.blaze3d.pipeline.TextureTarget;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.VertexSorting;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiGraphics;
+import net.neoforged.neoforge.client.ClientHooks;
+import org.joml.Matrix4f;
+
+final class AshwakeOffscreenPass {
+    private AshwakeOffscreenPass() {
+    }
+
+    static RenderTarget ensureTarget(RenderTarget target, int width, int height) {
+        if (target == null) {
+            return new TextureTarget(width, height, false, Minecraft.ON_OSX);
+        }
+        if (target.width != width || target.height != height) {
+            target.resize(width, height, Minecraft.ON_OSX);
+        }
+        return target;
+    }
+
+    // Binds the target and maps GUI coordinates 0..guiWidth x 0..guiHeight onto it.
+    static GuiGraphics begin(GuiGraphics current, RenderTarget target, int guiWidth, int guiHeight) {
+        current.flush();
+        target.setClearColor(0.0F, 0.0F, 0.0F, 0.0F);
+        target.clear(Minecraft.ON_OSX);
+        target.bindWrite(true);
+        RenderSystem.backupProjectionMatrix();
+        RenderSystem.setProjectionMatrix(
+                new Matrix4f().setOrtho(0.0F, guiWidth, guiHeight, 0.0F, 1000.0F, ClientHooks.getGuiFarPlane()),
+                VertexSorting.ORTHOGRAPHIC_Z);
+        Minecraft minecraft = Minecraft.getInstance();
+        return new GuiGraphics(minecraft, minecraft.renderBuffers().bufferSource());
+    }
+
+    static void end(GuiGraphics offscreen) {
+        offscreen.flush();
+        RenderSystem.restoreProjectionMatrix();
+        Minecraft.getInstance().getMainRenderTarget().bindWrite(true);
+    }
+}
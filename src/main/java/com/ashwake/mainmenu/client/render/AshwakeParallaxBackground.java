@@ -0,0 +1,149 @@
+package com.ashwake.mainmenu.client.render;
+
+import com.ashwake.mainmenu.config.AshwakeClientConfig;
+import com.mojang.blaze3d.pipeline.RenderTarget;
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.Mth;
+
+final class AshwakeParallaxBackground {
+    // The far layer has no entry here: it never moves, so it is baked into the static composite.
+    private final Layer mid = new Layer(AshwakeUiSkin.BACKGROUND_MID, 0.50F, 0.55F, 5.0F, 20);
+    private final Layer near = new Layer(AshwakeUiSkin.BACKGROUND_NEAR, 0.30F, 0.45F, 16.0F, 60);
+
+    private long lastFrameNanos = AshwakeAnimationClock.nanos();
+
+    void render(GuiGraphics graphics, int width, int height, boolean animationsEnabled, int animationIntensity, boolean reducedMotion) {
+        long now = AshwakeAnimationClock.nanos();
+        float dt = Mth.clamp((now - lastFrameNanos) / 1_000_000_000F, 0.0F, 0.1F);
+        lastFrameNanos = now;
+
+        float speedScale = animationsEnabled && !reducedMotion ? Mth.clamp(animationIntensity / 100.0F, 0.0F, 1.0F) : 0.0F;
+        int darken = AshwakeClientConfig.backgroundDarken();
+        mid.render(graphics, width, height, dt, speedScale, darken);
+        near.render(graphics, width, height, dt, speedScale, darken);
+    }
+
+    void release() {
+        mid.release();
+        near.release();
+    }
+
+    void resumeClock() {
+        lastFrameNanos = AshwakeAnimationClock.nanos();
+    }
+
+    long footprintBytes() {
+        return mid.footprintBytes() + near.footprintBytes();
+    }
+
+    private static final class Layer {
+        private final ResourceLocation texture;
+        private final float heightRatio;
+        private final float opacity;
+        private final float speed;
+        private final float stepSeconds;
+
+        private RenderTarget target;
+        private int builtWidth = -1;
+        private int builtHeight = -1;
+        private int builtDarken = -1;
+        private int builtGeneration = -1;
+        private float offset;
+        private float pendingSeconds;
+
+        Layer(ResourceLocation texture, float heightRatio, float opacity, float speed, int updateHz) {
+            this.texture = texture;
+            this.heightRatio = heightRatio;
+            this.opacity = opacity;
+            this.speed = speed;
+            this.stepSeconds = 1.0F / updateHz;
+        }
+
+        void render(GuiGraphics graphics, int width, int height, float dt, float speedScale, int darken) {
+            if (width <= 0 || height <= 0 || !AshwakeUiSkin.hasTexture(texture)) {
+                return;
+            }
+
+            int bandHeight = Math.max(1, Math.round(height * heightRatio));
+            int generation = AshwakeUiSkin.reloadGeneration();
+            if (target == null
+                    || builtWidth != width
+                    || builtHeight != bandHeight
+                    || builtDarken != darken
+                    || builtGeneration != generation) {
+                bake(graphics, width, bandHeight, darken);
+                builtWidth = width;
+                builtHeight = bandHeight;
+                builtDarken = darken;
+                builtGeneration = generation;
+            }
+
+            advance(dt, speedScale, width);
+
+            // Scroll by shifting texture coordinates; the baked band wraps across two quads.
+            float shift = offset / width;
+            int split = width - Mth.floor(offset);
+            int bandY = height - bandHeight;
+            RenderSystem.enableBlend();
+            RenderSystem.defaultBlendFunc();
+            RenderSystem.setShaderColor(1.0F, 1.0F, 1.0F, opacity);
+            AshwakeQuadBatch batch = AshwakeQuadBatch.begin(graphics, target.getColorTextureId());
+            batch.quad(0, bandY, split, height, shift, 1.0F, 1.0F, 0.0F);
+            batch.quad(split, bandY, width, height, 0.0F, 1.0F, shift, 0.0F);
+            batch.end();
+            RenderSystem.setShaderColor(1.0F, 1.0F, 1.0F, 1.0F);
+            RenderSystem.disableBlend();
+        }
+
+        long footprintBytes() {
+            return target == null ? 0L : (long) target.width * target.height * 4L;
+        }
+
+        void release() {
+            if (target == null) {
+                return;
+            }
+            target.destroyBuffers();
+            target = null;
+            builtWidth = -1;
+            builtHeight = -1;
+        }
+
+        private void advance(float dt, float speedScale, int width) {
+            if (speedScale <= 0.0F) {
+                pendingSeconds = 0.0F;
+                return;
+            }
+            pendingSeconds += dt;
+            if (pendingSeconds < stepSeconds) {
+                return;
+            }
+            offset = (offset + speed * speedScale * pendingSeconds) % width;
+            pendingSeconds = 0.0F;
+        }
+
+        private void bake(GuiGraphics graphics, int width, int bandHeight, int darken) {
+            // Bake at GUI resolution; the source art is lower resolution than that anyway.
+            target = AshwakeOffscreenPass.ensureTarget(target, width, bandHeight);
+            GuiGraphics offscreen = AshwakeOffscreenPass.begin(graphics, target, width, bandHeight);
+            float tint = 1.0F - AshwakeBackgroundRenderer.darkenFraction(darken);
+            RenderSystem.disableBlend();
+            RenderSystem.setShaderColor(tint, tint, tint, 1.0F);
+            AshwakeUiSkin.drawCover(
+                    offscreen,
+                    texture,
+                    0,
+                    0,
+                    width,
+                    bandHeight,
+                    AshwakeUiSkin.BACKGROUND_TEXTURE_WIDTH,
+                    AshwakeUiSkin.BACKGROUND_TEXTURE_HEIGHT,
+                    0,
+                    0);
+            RenderSystem.setShaderColor(1.0F, 1.0F, 1.0F, 1.0F);
+            AshwakeOffscreenPass.end(offscreen);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.ashwake.mainmenu.client.render;
+
+import java.util.List;
+import net.minecraft.util.RandomSource;
+
+// Headless replay of a recorded menu input timeline against seeded ember and hover systems.
+// Nothing here touches GL or the config, so it can run from benchmarks and plain unit tests.
+public final class AshwakeParticleReplay {
+    private static final int BUTTON_WIDTH = 200;
+    private static final int BUTTON_HEIGHT = 20;
+
+    private AshwakeParticleReplay() {
+    }
+
+    public static Result run(long seed, List<Frame> timeline, Settings settings) {
+        long[] now = {0L};
+        AshwakeEmberSystem embers = new AshwakeEmberSystem(seed, () -> now[0], settings.simulationHz(), settings.maxEmbers());
+        AshwakeHoverParticles hover = new AshwakeHoverParticles(RandomSource.create(seed ^ 0x5DEECE66DL));
+        AshwakeHoverParticles.Emitter button = hover.createEmitter();
+
+        int buttonX = (settings.width() - BUTTON_WIDTH) / 2;
+        int buttonY = (settings.height() - BUTTON_HEIGHT) / 2;
+        float hoverProgress = 0.0F;
+        long started = System.nanoTime();
+        for (Frame frame : timeline) {
+            now[0] += frame.frameNanos();
+            embers.advance(settings.width(), settings.height(), true, settings.emberDensity(), settings.reducedMotion());
+
+            // Same dt clamp as AshwakeButton and beginFrame().
+            float dt = Math.min(frame.frameNanos() / 1_000_000_000F, 0.075F);
+            // Live order: the click arrives with input polling, beginFrame() integrates on Render.Pre,
+            // then the button steps and spawns while it draws.
+            if (frame.clicked()) {
+                hover.emitClickBurst(button, buttonX, buttonY, BUTTON_WIDTH, BUTTON_HEIGHT, settings.hoverDensityScale());
+            }
+            hover.update(dt);
+            hoverProgress = hover.stepButton(
+                    button,
+                    hoverProgress,
+                    frame.hovered(),
+                    true,
+                    settings.reducedMotion(),
+                    buttonX,
+                    buttonY,
+                    BUTTON_WIDTH,
+                    BUTTON_HEIGHT,
+                    dt,
+                    settings.hoverDensityScale());
+        }
+
+        return new Result(
+                embers.stateHash() * 31L + hover.stateHash(),
+                embers.lastFrameParticles(),
+                hover.activeCount(),
+                System.nanoTime() - started);
+    }
+
+    public record Frame(long frameNanos, boolean hovered, boolean clicked) {
+    }
+
+    public record Settings(
+            int width,
+            int height,
+            int emberDensity,
+            float hoverDensityScale,
+            boolean reducedMotion,
+            int simulationHz,
+            int maxEmbers) {
+    }
+
+    // elapsedNanos is wall-clock cost of the replay and is not part of the deterministic state.
+    public record Result(long stateHash, int embers, int hoverParticles, long elapsedNanos) {
+    }
+}
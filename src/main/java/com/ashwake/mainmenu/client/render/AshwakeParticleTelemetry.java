@@ -0,0 +1,152 @@
+package com.ashwake.mainmenu.client.render;
+
+import com.ashwake.mainmenu.AshwakeMainMenuMod;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Rolling per-frame particle costs. Written by the render thread, readable from any thread without locking.
+public final class AshwakeParticleTelemetry {
+    private static final int WINDOW = 512;
+    private static final RollingHistogram[][] HISTOGRAMS = new RollingHistogram[Source.values().length][Metric.values().length];
+
+    static {
+        for (RollingHistogram[] perSource : HISTOGRAMS) {
+            for (int metric = 0; metric < perSource.length; metric++) {
+                perSource[metric] = new RollingHistogram(WINDOW);
+            }
+        }
+    }
+
+    private AshwakeParticleTelemetry() {
+    }
+
+    public static void record(Source source, int alive, int spawned, int dropped, long simNanos, long renderNanos) {
+        RollingHistogram[] perSource = HISTOGRAMS[source.ordinal()];
+        perSource[Metric.ALIVE.ordinal()].record(alive);
+        perSource[Metric.SPAWNED.ordinal()].record(spawned);
+        perSource[Metric.DROPPED.ordinal()].record(dropped);
+        perSource[Metric.SIM_NANOS.ordinal()].record(simNanos);
+        perSource[Metric.RENDER_NANOS.ordinal()].record(renderNanos);
+    }
+
+    public static Summary summary(Source source, Metric metric) {
+        return HISTOGRAMS[source.ordinal()][metric.ordinal()].summarize();
+    }
+
+    // Compact lines for the debugUi overlay.
+    public static List<String> overlayLines() {
+        List<String> lines = new ArrayList<>();
+        for (Source source : Source.values()) {
+            Summary alive = summary(source, Metric.ALIVE);
+            if (alive.frames() == 0) {
+                continue;
+            }
+            lines.add(String.format(
+                    Locale.ROOT,
+                    "%s: %d alive (p95 %d) | +%d -%d drop | sim %s | draw %s",
+                    source.label,
+                    alive.p50(),
+                    alive.p95(),
+                    summary(source, Metric.SPAWNED).total(),
+                    summary(source, Metric.DROPPED).total(),
+                    micros(summary(source, Metric.SIM_NANOS)),
+                    micros(summary(source, Metric.RENDER_NANOS))));
+        }
+        return lines;
+    }
+
+    public static void dumpToLog(String reason) {
+        StringBuilder dump = new StringBuilder("Ashwake particle telemetry (").append(reason).append(", last ")
+                .append(WINDOW).append(" frames per source):");
+        for (Source source : Source.values()) {
+            for (Metric metric : Metric.values()) {
+                Summary summary = summary(source, metric);
+                dump.append(System.lineSeparator()).append(String.format(
+                        Locale.ROOT,
+                        "  %-7s %-12s frames=%d mean=%.1f p50=%d p95=%d p99=%d max=%d total=%d",
+                        source.label,
+                        metric.name().toLowerCase(Locale.ROOT),
+                        summary.frames(),
+                        summary.mean(),
+                        summary.p50(),
+                        summary.p95(),
+                        summary.p99(),
+                        summary.max(),
+                        summary.total()));
+            }
+        }
+        AshwakeMainMenuMod.LOGGER.info(dump.toString());
+    }
+
+    private static String micros(Summary nanos) {
+        return (nanos.p50() / 1_000L) + "/" + (nanos.p95() / 1_000L) + " us";
+    }
+
+    public enum Source {
+        EMBERS("embers"),
+        HOVER("hover");
+
+        private final String label;
+
+        Source(String label) {
+            this.label = label;
+        }
+    }
+
+    public enum Metric {
+        ALIVE,
+        SPAWNED,
+        DROPPED,
+        SIM_NANOS,
+        RENDER_NANOS
+    }
+
+    public record Summary(int frames, double mean, long p50, long p95, long p99, long max, long total) {
+        private static final Summary EMPTY = new Summary(0, 0.0D, 0L, 0L, 0L, 0L, 0L);
+    }
+
+    // Ring of the most recent samples; percentiles come from a sorted snapshot taken on read.
+    private static final class RollingHistogram {
+        private final AtomicLongArray samples;
+        private final AtomicLong written = new AtomicLong();
+
+        RollingHistogram(int window) {
+            this.samples = new AtomicLongArray(window);
+        }
+
+        void record(long value) {
+            long slot = written.getAndIncrement();
+            samples.set((int) (slot % samples.length()), value);
+        }
+
+        Summary summarize() {
+            int count = (int) Math.min(written.get(), samples.length());
+            if (count == 0) {
+                return Summary.EMPTY;
+            }
+            long[] snapshot = new long[count];
+            long total = 0L;
+            for (int i = 0; i < count; i++) {
+                snapshot[i] = samples.get(i);
+                total += snapshot[i];
+            }
+            Arrays.sort(snapshot);
+            return new Summary(
+                    count,
+                    total / (double) count,
+                    percentile(snapshot, 0.50F),
+                    percentile(snapshot, 0.95F),
+                    percentile(snapshot, 0.99F),
+                    snapshot[count - 1],
+                    total);
+        }
+
+        private static long percentile(long[] sorted, float fraction) {
+            return sorted[Math.min(sorted.length - 1, (int) (fraction * sorted.length))];
+        }
+    }
+}
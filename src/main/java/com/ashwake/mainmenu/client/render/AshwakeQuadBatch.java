@@ -0,0 +1,64 @@
+package com.ashwake.mainmenu.client.render;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.BufferUploader;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import com.mojang.blaze3d.vertex.MeshData;
+import com.mojang.blaze3d.vertex.Tesselator;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.renderer.GameRenderer;
+import net.minecraft.resources.ResourceLocation;
+import org.joml.Matrix4f;
+
+public final class AshwakeQuadBatch {
+    private static long drawCalls;
+
+    private final Matrix4f pose;
+    private final BufferBuilder builder;
+    private int quadCount;
+
+    private AshwakeQuadBatch(Matrix4f pose) {
+        this.pose = pose;
+        this.builder = Tesselator.getInstance().begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_TEX);
+    }
+
+    public static AshwakeQuadBatch begin(GuiGraphics guiGraphics, ResourceLocation texture) {
+        AshwakeTextureResidency.touch(texture);
+        RenderSystem.setShaderTexture(0, texture);
+        RenderSystem.setShader(GameRenderer::getPositionTexShader);
+        return new AshwakeQuadBatch(guiGraphics.pose().last().pose());
+    }
+
+    public static AshwakeQuadBatch begin(GuiGraphics guiGraphics, int textureId) {
+        RenderSystem.setShaderTexture(0, textureId);
+        RenderSystem.setShader(GameRenderer::getPositionTexShader);
+        return new AshwakeQuadBatch(guiGraphics.pose().last().pose());
+    }
+
+    public void quad(float x1, float y1, float x2, float y2, float u1, float v1, float u2, float v2) {
+        builder.addVertex(pose, x1, y1, 0.0F).setUv(u1, v1);
+        builder.addVertex(pose, x1, y2, 0.0F).setUv(u1, v2);
+        builder.addVertex(pose, x2, y2, 0.0F).setUv(u2, v2);
+        builder.addVertex(pose, x2, y1, 0.0F).setUv(u2, v1);
+        quadCount++;
+    }
+
+    public int quadCount() {
+        return quadCount;
+    }
+
+    public void end() {
+        MeshData mesh = builder.build();
+        if (mesh == null) {
+            return;
+        }
+        BufferUploader.drawWithShader(mesh);
+        drawCalls++;
+    }
+
+    public static long drawCalls() {
+        return drawCalls;
+    }
+}
@@ -0,0 +1,77 @@
+package com.ashwake.mainmenu.client.render;
+
+import com.ashwake.mainmenu.AshwakeMainMenuMod;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import net.minecraft.client.Minecraft;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+
+public final class AshwakeTextureCache {
+    private static final Map<ResourceLocation, Boolean> PRESENCE = new ConcurrentHashMap<>();
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    private AshwakeTextureCache() {
+    }
+
+    public static boolean isPresent(ResourceLocation texture) {
+        if (texture == null) {
+            return false;
+        }
+
+        Boolean cached = PRESENCE.get(texture);
+        if (cached != null) {
+            HITS.incrementAndGet();
+            return cached;
+        }
+
+        ResourceManager resourceManager = currentResourceManager();
+        if (resourceManager == null) {
+            // Not cached: the resource manager is not ready yet and a later lookup must retry.
+            return false;
+        }
+
+        MISSES.incrementAndGet();
+        boolean present = resourceManager.getResource(texture).isPresent();
+        PRESENCE.put(texture, present);
+        return present;
+    }
+
+    public static void reload(ResourceManager resourceManager) {
+        long hits = HITS.getAndSet(0L);
+        long misses = MISSES.getAndSet(0L);
+        PRESENCE.clear();
+        if (resourceManager != null) {
+            for (ResourceLocation texture : AshwakeUiSkin.KNOWN_TEXTURES) {
+                PRESENCE.put(texture, resourceManager.getResource(texture).isPresent());
+            }
+        }
+        AshwakeMainMenuMod.LOGGER.debug(
+                "Ashwake texture cache reloaded ({} primed, previous session {} hits / {} misses)",
+                PRESENCE.size(),
+                hits,
+                misses);
+    }
+
+    public static long hits() {
+        return HITS.get();
+    }
+
+    public static long misses() {
+        return MISSES.get();
+    }
+
+    public static int size() {
+        return PRESENCE.size();
+    }
+
+    private static ResourceManager currentResourceManager() {
+        Minecraft minecraft = Minecraft.getInstance();
+        if (minecraft == null) {
+            return null;
+        }
+        return minecraft.getResourceManager();
+    }
+}
@@ -0,0 +1,168 @@
+package com.ashwake.mainmenu.client.render;
+
+import com.ashwake.mainmenu.AshwakeMainMenuMod;
+import com.ashwake.mainmenu.config.AshwakeClientConfig;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import net.minecraft.Util;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.texture.TextureManager;
+import net.minecraft.resources.ResourceLocation;
+
+public final class AshwakeTextureResidency {
+    private static final int CHECK_INTERVAL_TICKS = 20;
+    private static final Map<ResourceLocation, Entry> EVICTABLE = new LinkedHashMap<>();
+
+    private static int ticksUntilCheck = CHECK_INTERVAL_TICKS;
+    private static long atlasLastUsedMillis = Util.getMillis();
+
+    static {
+        register(AshwakeUiSkin.LOGO_TRANSPARENT, AshwakeUiSkin.LOGO_TRANSPARENT_WIDTH, AshwakeUiSkin.LOGO_TRANSPARENT_HEIGHT);
+        register(AshwakeUiSkin.LOGO_LEGACY, AshwakeUiSkin.LOGO_LEGACY_SIZE, AshwakeUiSkin.LOGO_LEGACY_SIZE);
+        register(AshwakeUiSkin.BACKGROUND_MAIN, AshwakeUiSkin.MAIN_BACKGROUND_WIDTH, AshwakeUiSkin.MAIN_BACKGROUND_HEIGHT);
+        register(AshwakeUiSkin.BACKGROUND_FAR, AshwakeUiSkin.BACKGROUND_TEXTURE_WIDTH, AshwakeUiSkin.BACKGROUND_TEXTURE_HEIGHT);
+        register(AshwakeUiSkin.BACKGROUND_MID, AshwakeUiSkin.BACKGROUND_TEXTURE_WIDTH, AshwakeUiSkin.BACKGROUND_TEXTURE_HEIGHT);
+        register(AshwakeUiSkin.BACKGROUND_NEAR, AshwakeUiSkin.BACKGROUND_TEXTURE_WIDTH, AshwakeUiSkin.BACKGROUND_TEXTURE_HEIGHT);
+        register(AshwakeUiSkin.GUI_VIGNETTE, AshwakeUiSkin.VIGNETTE_TEXTURE_SIZE, AshwakeUiSkin.VIGNETTE_TEXTURE_SIZE);
+        register(AshwakeUiSkin.BACKGROUND_VIGNETTE, AshwakeUiSkin.VIGNETTE_TEXTURE_SIZE, AshwakeUiSkin.VIGNETTE_TEXTURE_SIZE);
+    }
+
+    private AshwakeTextureResidency() {
+    }
+
+    // Render thread only; called by every draw path that binds a skin texture.
+    public static void touch(ResourceLocation texture) {
+        long now = Util.getMillis();
+        if (AshwakeUiAtlas.LOCATION.equals(texture)) {
+            atlasLastUsedMillis = now;
+            return;
+        }
+        Entry entry = EVICTABLE.get(texture);
+        if (entry == null) {
+            // Draw paths mostly bind downscaled variants; those count as uses of the source they were built from.
+            ResourceLocation source = AshwakeTextureVariants.sourceOf(texture);
+            entry = source == null ? null : EVICTABLE.get(source);
+        }
+        if (entry != null) {
+            entry.lastUsedMillis = now;
+        }
+    }
+
+    public static void onClientTick(Minecraft minecraft) {
+        if (--ticksUntilCheck > 0) {
+            return;
+        }
+        ticksUntilCheck = CHECK_INTERVAL_TICKS;
+
+        int idleSeconds = AshwakeClientConfig.textureIdleEvictSeconds();
+        if (idleSeconds <= 0 || minecraft.level == null) {
+            return;
+        }
+
+        TextureManager textureManager = minecraft.getTextureManager();
+        long now = Util.getMillis();
+        long started = System.nanoTime();
+        int evicted = 0;
+        long evictedBytes = 0L;
+        long idleMillis = idleSeconds * 1000L;
+        for (Entry entry : EVICTABLE.values()) {
+            if (now - entry.lastUsedMillis < idleMillis) {
+                continue;
+            }
+            long bytes = 0L;
+            if (textureManager.getTexture(entry.location, null) != null) {
+                textureManager.release(entry.location);
+                entry.sourceEvicted = true;
+                bytes += entry.bytes;
+            }
+            long variantBytes = AshwakeTextureVariants.release(entry.location);
+            if (variantBytes > 0L) {
+                entry.variantsEvicted = true;
+                bytes += variantBytes;
+            }
+            if (bytes > 0L) {
+                evicted++;
+                evictedBytes += bytes;
+            }
+        }
+        if (now - atlasLastUsedMillis >= idleMillis) {
+            long atlasBytes = AshwakeUiAtlas.releaseIdle();
+            if (atlasBytes > 0L) {
+                evicted++;
+                evictedBytes += atlasBytes;
+            }
+        }
+        if (evicted > 0) {
+            AshwakeMainMenuMod.LOGGER.info(
+                    "Ashwake evicted {} idle menu textures (~{} KiB) in {} us",
+                    evicted,
+                    evictedBytes / 1024L,
+                    (System.nanoTime() - started) / 1_000L);
+        }
+    }
+
+    // Starts background re-uploads for evicted textures so the next menu frame does not load them synchronously.
+    public static void prefetch(String reason) {
+        Minecraft minecraft = Minecraft.getInstance();
+        if (minecraft == null) {
+            return;
+        }
+
+        TextureManager textureManager = minecraft.getTextureManager();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        long now = Util.getMillis();
+        for (Entry entry : EVICTABLE.values()) {
+            if (!AshwakeUiSkin.hasTexture(entry.location)) {
+                continue;
+            }
+            // Only bring back what eviction took; untouched textures keep loading lazily as before.
+            if (entry.sourceEvicted && textureManager.getTexture(entry.location, null) == null) {
+                pending.add(textureManager.preload(entry.location, Util.backgroundExecutor()));
+            }
+            if (entry.variantsEvicted) {
+                pending.add(AshwakeTextureVariants.regenerate(entry.location));
+            }
+            entry.sourceEvicted = false;
+            entry.variantsEvicted = false;
+            // Counts as a use so the idle timer does not evict it again straight away.
+            entry.lastUsedMillis = now;
+        }
+        // The atlas is small and rebuilt from its sprites synchronously; doing it here keeps that off the first frame.
+        atlasLastUsedMillis = now;
+        AshwakeUiAtlas.generation();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        int count = pending.size();
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).whenComplete((ignored, throwable) -> {
+            long elapsedMs = (System.nanoTime() - started) / 1_000_000L;
+            if (throwable != null) {
+                AshwakeMainMenuMod.LOGGER.warn("Ashwake texture prefetch ({}) failed after {} ms", reason, elapsedMs, throwable);
+                return;
+            }
+            AshwakeMainMenuMod.LOGGER.info("Ashwake re-uploaded {} menu textures or variant chains ({}) in {} ms", count, reason, elapsedMs);
+        });
+    }
+
+    private static void register(ResourceLocation location, int width, int height) {
+        EVICTABLE.put(location, new Entry(location, (long) width * height * 4L));
+    }
+
+    private static final class Entry {
+        private final ResourceLocation location;
+        private final long bytes;
+        private long lastUsedMillis = Util.getMillis();
+        private boolean sourceEvicted;
+        private boolean variantsEvicted;
+
+        private Entry(ResourceLocation location, long bytes) {
+            this.location = location;
+            this.bytes = bytes;
+        }
+    }
+}
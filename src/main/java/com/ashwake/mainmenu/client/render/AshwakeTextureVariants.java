@@ -0,0 +1,229 @@
+package com.ashwake.mainmenu.client.render;
+
+import com.ashwake.mainmenu.AshwakeMainMenuMod;
+import com.mojang.blaze3d.platform.NativeImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import net.minecraft.Util;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.texture.DynamicTexture;
+import net.minecraft.client.renderer.texture.TextureManager;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.Resource;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimplePreparableReloadListener;
+import net.minecraft.util.profiling.ProfilerFiller;
+
+public final class AshwakeTextureVariants extends SimplePreparableReloadListener<List<AshwakeTextureVariants.Chain>> {
+    private static final AshwakeTextureVariants INSTANCE = new AshwakeTextureVariants();
+    private static final List<ResourceLocation> SOURCES = List.of(
+            AshwakeUiSkin.BACKGROUND_MAIN,
+            AshwakeUiSkin.LOGO_TRANSPARENT,
+            AshwakeUiSkin.LOGO_LEGACY);
+    private static final int MIN_VARIANT_SIZE = 64;
+
+    // Render-thread only: written in apply, read by the draw paths.
+    private final Map<ResourceLocation, List<Variant>> variants = new HashMap<>();
+    private final Map<ResourceLocation, ResourceLocation> sourceByVariant = new HashMap<>();
+
+    private AshwakeTextureVariants() {
+    }
+
+    public static AshwakeTextureVariants reloadListener() {
+        return INSTANCE;
+    }
+
+    // Returns the smallest variant that still covers the target pixel size, or the source texture itself.
+    public static ResourceLocation select(ResourceLocation texture, int targetPixelWidth, int targetPixelHeight) {
+        List<Variant> chain = INSTANCE.variants.get(texture);
+        if (chain == null) {
+            return texture;
+        }
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            Variant variant = chain.get(i);
+            if (variant.width() >= targetPixelWidth && variant.height() >= targetPixelHeight) {
+                return variant.location();
+            }
+        }
+        return texture;
+    }
+
+    // The source texture a variant location was generated from, or null for anything else.
+    public static ResourceLocation sourceOf(ResourceLocation location) {
+        return INSTANCE.sourceByVariant.get(location);
+    }
+
+    // Releases every variant of the source; select() falls back to the source until regenerate() completes.
+    public static long release(ResourceLocation source) {
+        List<Variant> chain = INSTANCE.variants.remove(source);
+        if (chain == null) {
+            return 0L;
+        }
+        TextureManager textureManager = Minecraft.getInstance().getTextureManager();
+        long bytes = 0L;
+        for (Variant variant : chain) {
+            textureManager.release(variant.location());
+            INSTANCE.sourceByVariant.remove(variant.location());
+            bytes += (long) variant.width() * variant.height() * 4L;
+        }
+        return bytes;
+    }
+
+    // Rebuilds one source's chain off-thread and registers it on the render thread.
+    public static CompletableFuture<Void> regenerate(ResourceLocation source) {
+        Minecraft minecraft = Minecraft.getInstance();
+        ResourceManager resourceManager = minecraft.getResourceManager();
+        return CompletableFuture.supplyAsync(() -> buildChain(resourceManager, source), Util.backgroundExecutor())
+                .thenAcceptAsync(chain -> {
+                    if (chain == null) {
+                        return;
+                    }
+                    if (INSTANCE.variants.containsKey(source)) {
+                        // A resource reload already rebuilt this chain.
+                        chain.levels().forEach(NativeImage::close);
+                        return;
+                    }
+                    INSTANCE.register(minecraft.getTextureManager(), chain);
+                }, minecraft);
+    }
+
+    public static int guiToPixels(int guiSize) {
+        Minecraft minecraft = Minecraft.getInstance();
+        if (minecraft == null) {
+            return guiSize;
+        }
+        return (int) Math.ceil(guiSize * minecraft.getWindow().getGuiScale());
+    }
+
+    @Override
+    protected List<Chain> prepare(ResourceManager resourceManager, ProfilerFiller profiler) {
+        List<Chain> chains = new ArrayList<>();
+        for (ResourceLocation source : SOURCES) {
+            Chain chain = buildChain(resourceManager, source);
+            if (chain != null) {
+                chains.add(chain);
+            }
+        }
+        return chains;
+    }
+
+    @Override
+    protected void apply(List<Chain> chains, ResourceManager resourceManager, ProfilerFiller profiler) {
+        TextureManager textureManager = Minecraft.getInstance().getTextureManager();
+        for (List<Variant> previous : variants.values()) {
+            for (Variant variant : previous) {
+                textureManager.release(variant.location());
+            }
+        }
+        variants.clear();
+        sourceByVariant.clear();
+
+        for (Chain chain : chains) {
+            register(textureManager, chain);
+        }
+    }
+
+    private static Chain buildChain(ResourceManager resourceManager, ResourceLocation source) {
+        Optional<Resource> resource = resourceManager.getResource(source);
+        if (resource.isEmpty()) {
+            return null;
+        }
+        try (InputStream stream = resource.get().open(); NativeImage image = NativeImage.read(stream)) {
+            List<NativeImage> levels = new ArrayList<>();
+            NativeImage current = image;
+            while (Math.max(current.getWidth(), current.getHeight()) / 2 >= MIN_VARIANT_SIZE) {
+                current = halve(current);
+                levels.add(current);
+            }
+            return new Chain(source, image.getWidth(), image.getHeight(), levels);
+        } catch (IOException exception) {
+            AshwakeMainMenuMod.LOGGER.warn("Failed generating texture variants for {}", source, exception);
+            return null;
+        }
+    }
+
+    private void register(TextureManager textureManager, Chain chain) {
+        List<Variant> registered = new ArrayList<>();
+        StringBuilder summary = new StringBuilder();
+        long variantBytes = 0L;
+        for (NativeImage level : chain.levels()) {
+            ResourceLocation location = variantLocation(chain.source(), level.getWidth(), level.getHeight());
+            textureManager.register(location, new DynamicTexture(level));
+            registered.add(new Variant(location, level.getWidth(), level.getHeight()));
+            sourceByVariant.put(location, chain.source());
+            long bytes = (long) level.getWidth() * level.getHeight() * 4L;
+            variantBytes += bytes;
+            if (!summary.isEmpty()) {
+                summary.append(", ");
+            }
+            summary.append(level.getWidth()).append('x').append(level.getHeight()).append(" = ").append(bytes / 1024L).append(" KiB");
+        }
+        variants.put(chain.source(), registered);
+        AshwakeMainMenuMod.LOGGER.info(
+                "Ashwake texture variants for {} ({}x{} = {} KiB): {} (variants total {} KiB)",
+                chain.source(),
+                chain.width(),
+                chain.height(),
+                ((long) chain.width() * chain.height() * 4L) / 1024L,
+                summary,
+                variantBytes / 1024L);
+    }
+
+    private static ResourceLocation variantLocation(ResourceLocation source, int width, int height) {
+        return ResourceLocation.fromNamespaceAndPath(
+                AshwakeMainMenuMod.MOD_ID,
+                "dynamic/variants/" + source.getNamespace() + "/" + source.getPath().replace(".png", "") + "_" + width + "x" + height);
+    }
+
+    // 2x2 box filter; colour is alpha-weighted so transparent edges do not bleed dark fringes into the logo.
+    private static NativeImage halve(NativeImage source) {
+        int width = Math.max(1, source.getWidth() / 2);
+        int height = Math.max(1, source.getHeight() / 2);
+        NativeImage result = new NativeImage(width, height, false);
+        int maxX = source.getWidth() - 1;
+        int maxY = source.getHeight() - 1;
+        for (int y = 0; y < height; y++) {
+            int y0 = Math.min(y * 2, maxY);
+            int y1 = Math.min(y * 2 + 1, maxY);
+            for (int x = 0; x < width; x++) {
+                int x0 = Math.min(x * 2, maxX);
+                int x1 = Math.min(x * 2 + 1, maxX);
+                result.setPixelRGBA(x, y, average(
+                        source.getPixelRGBA(x0, y0),
+                        source.getPixelRGBA(x1, y0),
+                        source.getPixelRGBA(x0, y1),
+                        source.getPixelRGBA(x1, y1)));
+            }
+        }
+        return result;
+    }
+
+    private static int average(int p0, int p1, int p2, int p3) {
+        int a0 = p0 >>> 24;
+        int a1 = p1 >>> 24;
+        int a2 = p2 >>> 24;
+        int a3 = p3 >>> 24;
+        int alphaSum = a0 + a1 + a2 + a3;
+        if (alphaSum == 0) {
+            return 0;
+        }
+        // NativeImage pixels are ABGR.
+        int blue = (((p0 >> 16) & 0xFF) * a0 + ((p1 >> 16) & 0xFF) * a1 + ((p2 >> 16) & 0xFF) * a2 + ((p3 >> 16) & 0xFF) * a3) / alphaSum;
+        int green = (((p0 >> 8) & 0xFF) * a0 + ((p1 >> 8) & 0xFF) * a1 + ((p2 >> 8) & 0xFF) * a2 + ((p3 >> 8) & 0xFF) * a3) / alphaSum;
+        int red = ((p0 & 0xFF) * a0 + (p1 & 0xFF) * a1 + (p2 & 0xFF) * a2 + (p3 & 0xFF) * a3) / alphaSum;
+        int alpha = alphaSum / 4;
+        return (alpha << 24) | (blue << 16) | (green << 8) | red;
+    }
+
+    record Chain(ResourceLocation source, int width, int height, List<NativeImage> levels) {
+    }
+
+    private record Variant(ResourceLocation location, int width, int height) {
+    }
+}
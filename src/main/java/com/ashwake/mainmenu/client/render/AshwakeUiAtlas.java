@@ -0,0 +1,267 @@
+package com.ashwake.mainmenu.client.render;
+
+import com.ashwake.mainmenu.AshwakeMainMenuMod;
+import com.ashwake.mainmenu.api.GuidanceCard;
+import com.ashwake.mainmenu.api.MenuAction;
+import com.ashwake.mainmenu.internal.AshwakeMenuApiImpl;
+import com.mojang.blaze3d.platform.NativeImage;
+import com.mojang.blaze3d.systems.RenderSystem;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.texture.DynamicTexture;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.Resource;
+import net.minecraft.server.packs.resources.ResourceManager;
+
+public final class AshwakeUiAtlas {
+    public static final ResourceLocation LOCATION = ResourceLocation.fromNamespaceAndPath(AshwakeMainMenuMod.MOD_ID, "dynamic/ui_atlas");
+
+    private static final List<ResourceLocation> SKIN_SPRITES = List.of(
+            AshwakeUiSkin.BUTTON_IDLE,
+            AshwakeUiSkin.BUTTON_HOVER,
+            AshwakeUiSkin.BUTTON_PRESS,
+            AshwakeUiSkin.BUTTON_DISABLED,
+            AshwakeUiSkin.PANEL_FRAME,
+            AshwakeUiSkin.FOCUS_GLOW,
+            AshwakeUiSkin.ICON_PLAY,
+            AshwakeUiSkin.ICON_OPTIONS,
+            AshwakeUiSkin.ICON_CHANGELOG,
+            AshwakeUiSkin.ICON_DISCORD,
+            AshwakeUiSkin.ICON_QUIT,
+            AshwakeUiSkin.ICON_GUIDANCE,
+            AshwakeUiSkin.PARTICLE_EMBER_0,
+            AshwakeUiSkin.PARTICLE_EMBER_1,
+            AshwakeUiSkin.PARTICLE_EMBER_2,
+            AshwakeUiSkin.GUI_VIGNETTE);
+
+    // Anything larger stays a standalone texture; it would waste most of the atlas page.
+    private static final int MAX_SPRITE_SIZE = 256;
+    private static final int MIN_ATLAS_SIZE = 256;
+    private static final int MAX_ATLAS_SIZE = 4096;
+    private static final int PADDING = 1;
+
+    private static final Map<ResourceLocation, Sprite> SPRITES = new HashMap<>();
+
+    private static DynamicTexture texture;
+    private static boolean dirty = true;
+    private static int builtIconRevision = -1;
+    private static int generation;
+    private static int builtSize;
+
+    private AshwakeUiAtlas() {
+    }
+
+    public static Sprite sprite(ResourceLocation location) {
+        if (location == null) {
+            return null;
+        }
+        ensureCurrent();
+        return SPRITES.get(location);
+    }
+
+    public static boolean containsAll(ResourceLocation[] locations) {
+        ensureCurrent();
+        for (ResourceLocation location : locations) {
+            if (!SPRITES.containsKey(location)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static ResourceLocation textureFor(ResourceLocation location) {
+        return sprite(location) != null ? LOCATION : location;
+    }
+
+    // Brings the atlas up to date and returns a counter that changes on every rebuild, so derived geometry can be dropped.
+    static int generation() {
+        ensureCurrent();
+        return generation;
+    }
+
+    // Lookup without the freshness check, for callers that already went through generation().
+    static Sprite builtSprite(ResourceLocation location) {
+        return location == null ? null : SPRITES.get(location);
+    }
+
+    public static int spriteCount() {
+        return SPRITES.size();
+    }
+
+    public static void rebuild(ResourceManager resourceManager) {
+        dirty = false;
+        builtIconRevision = AshwakeMenuApiImpl.getInstance().iconRevision();
+        SPRITES.clear();
+        generation++;
+        if (resourceManager == null) {
+            release();
+            return;
+        }
+
+        long started = System.nanoTime();
+        List<Source> sources = loadSources(resourceManager);
+        try {
+            if (sources.isEmpty()) {
+                release();
+                return;
+            }
+
+            sources.sort(Comparator.comparingInt((Source source) -> source.image().getHeight()).reversed()
+                    .thenComparing(source -> source.location().toString()));
+            int maxSize = Math.min(MAX_ATLAS_SIZE, RenderSystem.maxSupportedTextureSize());
+            int size = MIN_ATLAS_SIZE;
+            int[][] placements = pack(sources, size);
+            while (placements == null && size < maxSize) {
+                size *= 2;
+                placements = pack(sources, size);
+            }
+            if (placements == null) {
+                AshwakeMainMenuMod.LOGGER.warn("Ashwake UI atlas: {} sprites do not fit in {}px, using standalone textures", sources.size(), maxSize);
+                release();
+                return;
+            }
+
+            NativeImage atlasImage = new NativeImage(NativeImage.Format.RGBA, size, size, true);
+            for (int i = 0; i < sources.size(); i++) {
+                Source source = sources.get(i);
+                NativeImage image = source.image();
+                int atlasX = placements[i][0];
+                int atlasY = placements[i][1];
+                image.copyRect(atlasImage, 0, 0, atlasX, atlasY, image.getWidth(), image.getHeight(), false, false);
+                SPRITES.put(source.location(), new Sprite(
+                        atlasX / (float) size,
+                        atlasY / (float) size,
+                        (atlasX + image.getWidth()) / (float) size,
+                        (atlasY + image.getHeight()) / (float) size,
+                        image.getWidth(),
+                        image.getHeight()));
+            }
+
+            texture = new DynamicTexture(atlasImage);
+            builtSize = size;
+            // Registering over the old entry releases the previous GL texture.
+            Minecraft.getInstance().getTextureManager().register(LOCATION, texture);
+            AshwakeMainMenuMod.LOGGER.debug(
+                    "Ashwake UI atlas rebuilt: {} sprites in {}x{} ({} ms)",
+                    SPRITES.size(),
+                    size,
+                    size,
+                    (System.nanoTime() - started) / 1_000_000L);
+        } finally {
+            for (Source source : sources) {
+                source.image().close();
+            }
+        }
+    }
+
+    // Frees the atlas page; the next sprite lookup on the render thread rebuilds it.
+    static long releaseIdle() {
+        if (texture == null) {
+            return 0L;
+        }
+        release();
+        dirty = true;
+        return (long) builtSize * builtSize * 4L;
+    }
+
+    private static void ensureCurrent() {
+        if (!RenderSystem.isOnRenderThread()) {
+            return;
+        }
+        if (!dirty && builtIconRevision == AshwakeMenuApiImpl.getInstance().iconRevision()) {
+            return;
+        }
+        Minecraft minecraft = Minecraft.getInstance();
+        rebuild(minecraft == null ? null : minecraft.getResourceManager());
+    }
+
+    private static void release() {
+        if (texture == null) {
+            return;
+        }
+        Minecraft.getInstance().getTextureManager().release(LOCATION);
+        texture = null;
+    }
+
+    private static List<Source> loadSources(ResourceManager resourceManager) {
+        Set<ResourceLocation> locations = new LinkedHashSet<>(SKIN_SPRITES);
+        for (MenuAction action : AshwakeMenuApiImpl.getInstance().getMainMenuActions()) {
+            ResourceLocation icon = AshwakeUiSkin.parseIconTexture(action.iconTexture());
+            if (icon != null) {
+                locations.add(icon);
+            }
+        }
+        for (GuidanceCard card : AshwakeMenuApiImpl.getInstance().getGuidanceCards()) {
+            ResourceLocation icon = AshwakeUiSkin.parseIconTexture(card.iconTexture());
+            if (icon != null) {
+                locations.add(icon);
+            }
+        }
+
+        List<Source> sources = new ArrayList<>();
+        for (ResourceLocation location : locations) {
+            Optional<Resource> resource = resourceManager.getResource(location);
+            if (resource.isEmpty()) {
+                continue;
+            }
+            try (InputStream stream = resource.get().open()) {
+                NativeImage image = NativeImage.read(stream);
+                if (image.getWidth() > MAX_SPRITE_SIZE || image.getHeight() > MAX_SPRITE_SIZE) {
+                    image.close();
+                    continue;
+                }
+                sources.add(new Source(location, image));
+            } catch (IOException exception) {
+                AshwakeMainMenuMod.LOGGER.debug("Ashwake UI atlas skipped unreadable sprite {}", location, exception);
+            }
+        }
+        return sources;
+    }
+
+    private static int[][] pack(List<Source> sources, int size) {
+        int[][] placements = new int[sources.size()][2];
+        int shelfX = 0;
+        int shelfY = 0;
+        int shelfHeight = 0;
+        for (int i = 0; i < sources.size(); i++) {
+            NativeImage image = sources.get(i).image();
+            int w = image.getWidth() + PADDING;
+            int h = image.getHeight() + PADDING;
+            if (shelfX + w > size) {
+                shelfY += shelfHeight;
+                shelfX = 0;
+                shelfHeight = 0;
+            }
+            if (w > size || shelfY + h > size) {
+                return null;
+            }
+            placements[i][0] = shelfX;
+            placements[i][1] = shelfY;
+            shelfX += w;
+            shelfHeight = Math.max(shelfHeight, h);
+        }
+        return placements;
+    }
+
+    public record Sprite(float u0, float v0, float u1, float v1, int width, int height) {
+        public float u(float fraction) {
+            return u0 + (u1 - u0) * fraction;
+        }
+
+        public float v(float fraction) {
+            return v0 + (v1 - v0) * fraction;
+        }
+    }
+
+    private record Source(ResourceLocation location, NativeImage image) {
+    }
+}
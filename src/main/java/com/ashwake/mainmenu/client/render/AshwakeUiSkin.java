@@ -1,9 +1,10 @@
 package com.ashwake.mainmenu.client.render;
 
 import com.ashwake.mainmenu.AshwakeMainMenuMod;
-import net.minecraft.client.Minecraft;
+import java.util.List;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.util.Mth;
 
 public final class AshwakeUiSkin {
@@ -35,6 +36,31 @@ public final class AshwakeUiSkin {
     public static final ResourceLocation PARTICLE_EMBER_1 = texture("particles/ember_1.png");
     public static final ResourceLocation PARTICLE_EMBER_2 = texture("particles/ember_2.png");
 
+    public static final List<ResourceLocation> KNOWN_TEXTURES = List.of(
+            PANEL_FRAME,
+            BUTTON_IDLE,
+            BUTTON_HOVER,
+            BUTTON_PRESS,
+            BUTTON_DISABLED,
+            FOCUS_GLOW,
+            ICON_PLAY,
+            ICON_OPTIONS,
+            ICON_CHANGELOG,
+            ICON_DISCORD,
+            ICON_QUIT,
+            ICON_GUIDANCE,
+            LOGO_TRANSPARENT,
+            LOGO_LEGACY,
+            BACKGROUND_MAIN,
+            BACKGROUND_FAR,
+            BACKGROUND_MID,
+            BACKGROUND_NEAR,
+            GUI_VIGNETTE,
+            BACKGROUND_VIGNETTE,
+            PARTICLE_EMBER_0,
+            PARTICLE_EMBER_1,
+            PARTICLE_EMBER_2);
+
     public static final int NINE_SLICE_TEXTURE_SIZE = 32;
     public static final int NINE_SLICE_CORNER = 8;
     public static final int FOCUS_GLOW_TEXTURE_SIZE = 64;
@@ -48,6 +74,8 @@ public final class AshwakeUiSkin {
     public static final int LOGO_LEGACY_SIZE = 1024;
     public static final int VIGNETTE_TEXTURE_SIZE = 256;
 
+    private static int reloadGeneration;
+
     private AshwakeUiSkin() {
     }
 
@@ -58,11 +86,24 @@ public final class AshwakeUiSkin {
     }
 
     public static boolean hasTexture(ResourceLocation texture) {
-        Minecraft minecraft = Minecraft.getInstance();
-        if (minecraft == null || minecraft.getResourceManager() == null) {
-            return false;
+        return AshwakeTextureCache.isPresent(texture);
+    }
+
+    public static void onResourceReload(ResourceManager resourceManager) {
+        AshwakeTextureCache.reload(resourceManager);
+        AshwakeUiAtlas.rebuild(resourceManager);
+        reloadGeneration++;
+    }
+
+    public static int reloadGeneration() {
+        return reloadGeneration;
+    }
+
+    public static ResourceLocation parseIconTexture(String iconTexture) {
+        if (iconTexture == null || iconTexture.isBlank()) {
+            return null;
         }
-        return minecraft.getResourceManager().getResource(texture).isPresent();
+        return ResourceLocation.tryParse(iconTexture.trim());
     }
 
     public static void drawNineSlice(GuiGraphics guiGraphics, ResourceLocation texture, int x, int y, int width, int height) {
@@ -71,61 +112,10 @@ public final class AshwakeUiSkin {
         }
 
         int corner = Math.min(NINE_SLICE_CORNER, Math.min(width / 2, height / 2));
-        if (corner <= 0) {
-            drawTiled(guiGraphics, texture, x, y, width, height, NINE_SLICE_TEXTURE_SIZE, NINE_SLICE_TEXTURE_SIZE);
-            return;
-        }
-
-        int centerSourceSize = NINE_SLICE_TEXTURE_SIZE - (corner * 2);
-        int innerWidth = width - (corner * 2);
-        int innerHeight = height - (corner * 2);
-
-        // Corners.
-        guiGraphics.blit(texture, x, y, 0, 0, corner, corner, NINE_SLICE_TEXTURE_SIZE, NINE_SLICE_TEXTURE_SIZE);
-        guiGraphics.blit(texture, x + width - corner, y, NINE_SLICE_TEXTURE_SIZE - corner, 0, corner, corner, NINE_SLICE_TEXTURE_SIZE, NINE_SLICE_TEXTURE_SIZE);
-        guiGraphics.blit(texture, x, y + height - corner, 0, NINE_SLICE_TEXTURE_SIZE - corner, corner, corner, NINE_SLICE_TEXTURE_SIZE, NINE_SLICE_TEXTURE_SIZE);
-        guiGraphics.blit(
-                texture,
-                x + width - corner,
-                y + height - corner,
-                NINE_SLICE_TEXTURE_SIZE - corner,
-                NINE_SLICE_TEXTURE_SIZE - corner,
-                corner,
-                corner,
-                NINE_SLICE_TEXTURE_SIZE,
-                NINE_SLICE_TEXTURE_SIZE);
-
-        if (innerWidth > 0) {
-            tileHorizontal(guiGraphics, texture, x + corner, y, innerWidth, corner, corner, 0, centerSourceSize);
-            tileHorizontal(
-                    guiGraphics,
-                    texture,
-                    x + corner,
-                    y + height - corner,
-                    innerWidth,
-                    corner,
-                    corner,
-                    NINE_SLICE_TEXTURE_SIZE - corner,
-                    centerSourceSize);
-        }
-
-        if (innerHeight > 0) {
-            tileVertical(guiGraphics, texture, x, y + corner, corner, innerHeight, 0, corner, centerSourceSize);
-            tileVertical(
-                    guiGraphics,
-                    texture,
-                    x + width - corner,
-                    y + corner,
-                    corner,
-                    innerHeight,
-                    NINE_SLICE_TEXTURE_SIZE - corner,
-                    corner,
-                    centerSourceSize);
-        }
-
-        if (innerWidth > 0 && innerHeight > 0) {
-            tileArea(guiGraphics, texture, x + corner, y + corner, innerWidth, innerHeight, corner, corner, centerSourceSize, centerSourceSize);
-        }
+        NineSliceMesh mesh = NineSliceMesh.get(texture, width, height, corner);
+        AshwakeQuadBatch batch = AshwakeQuadBatch.begin(guiGraphics, AshwakeUiAtlas.textureFor(texture));
+        mesh.emit(batch, x, y);
+        batch.end();
     }
 
     public static void drawFocusGlow(GuiGraphics guiGraphics, int x, int y, int width, int height) {
@@ -171,26 +161,55 @@ public final class AshwakeUiSkin {
             return;
         }
 
+        AshwakeUiAtlas.Sprite sprite = AshwakeUiAtlas.sprite(texture);
+        AshwakeQuadBatch batch = AshwakeQuadBatch.begin(guiGraphics, sprite != null ? AshwakeUiAtlas.LOCATION : texture);
         int offsetY = 0;
         while (offsetY < height) {
             int drawH = Math.min(textureHeight, height - offsetY);
             int offsetX = 0;
             while (offsetX < width) {
                 int drawW = Math.min(textureWidth, width - offsetX);
-                guiGraphics.blit(
-                        texture,
+                float u2 = drawW / (float) textureWidth;
+                float v2 = drawH / (float) textureHeight;
+                batch.quad(
                         x + offsetX,
                         y + offsetY,
-                        0,
-                        0,
-                        drawW,
-                        drawH,
-                        textureWidth,
-                        textureHeight);
+                        x + offsetX + drawW,
+                        y + offsetY + drawH,
+                        sprite != null ? sprite.u0() : 0.0F,
+                        sprite != null ? sprite.v0() : 0.0F,
+                        sprite != null ? sprite.u(u2) : u2,
+                        sprite != null ? sprite.v(v2) : v2);
                 offsetX += drawW;
             }
             offsetY += drawH;
         }
+        batch.end();
+    }
+
+    public static void drawSprite(
+            GuiGraphics guiGraphics,
+            ResourceLocation texture,
+            int x,
+            int y,
+            int width,
+            int height,
+            float u1,
+            float v1,
+            float u2,
+            float v2) {
+        if (width <= 0 || height <= 0 || !hasTexture(texture)) {
+            return;
+        }
+
+        AshwakeUiAtlas.Sprite sprite = AshwakeUiAtlas.sprite(texture);
+        AshwakeQuadBatch batch = AshwakeQuadBatch.begin(guiGraphics, sprite != null ? AshwakeUiAtlas.LOCATION : texture);
+        if (sprite != null) {
+            batch.quad(x, y, x + width, y + height, sprite.u(u1), sprite.v(v1), sprite.u(u2), sprite.v(v2));
+        } else {
+            batch.quad(x, y, x + width, y + height, u1, v1, u2, v2);
+        }
+        batch.end();
     }
 
     public static void drawCover(
@@ -214,102 +233,12 @@ public final class AshwakeUiSkin {
         int drawX = viewportX + ((viewportWidth - drawWidth) / 2) + offsetX;
         int drawY = viewportY + ((viewportHeight - drawHeight) / 2) + offsetY;
 
-        guiGraphics.blit(
+        ResourceLocation variant = AshwakeTextureVariants.select(
                 texture,
-                drawX,
-                drawY,
-                0,
-                0,
-                drawWidth,
-                drawHeight,
-                textureWidth,
-                textureHeight);
-    }
-
-    private static void tileHorizontal(
-            GuiGraphics guiGraphics,
-            ResourceLocation texture,
-            int x,
-            int y,
-            int width,
-            int height,
-            int sourceU,
-            int sourceV,
-            int sourceWidth) {
-        int drawn = 0;
-        while (drawn < width) {
-            int drawW = Math.min(sourceWidth, width - drawn);
-            guiGraphics.blit(
-                    texture,
-                    x + drawn,
-                    y,
-                    sourceU,
-                    sourceV,
-                    drawW,
-                    height,
-                    NINE_SLICE_TEXTURE_SIZE,
-                    NINE_SLICE_TEXTURE_SIZE);
-            drawn += drawW;
-        }
-    }
-
-    private static void tileVertical(
-            GuiGraphics guiGraphics,
-            ResourceLocation texture,
-            int x,
-            int y,
-            int width,
-            int height,
-            int sourceU,
-            int sourceV,
-            int sourceHeight) {
-        int drawn = 0;
-        while (drawn < height) {
-            int drawH = Math.min(sourceHeight, height - drawn);
-            guiGraphics.blit(
-                    texture,
-                    x,
-                    y + drawn,
-                    sourceU,
-                    sourceV,
-                    width,
-                    drawH,
-                    NINE_SLICE_TEXTURE_SIZE,
-                    NINE_SLICE_TEXTURE_SIZE);
-            drawn += drawH;
-        }
-    }
-
-    private static void tileArea(
-            GuiGraphics guiGraphics,
-            ResourceLocation texture,
-            int x,
-            int y,
-            int width,
-            int height,
-            int sourceU,
-            int sourceV,
-            int sourceWidth,
-            int sourceHeight) {
-        int offsetY = 0;
-        while (offsetY < height) {
-            int drawH = Math.min(sourceHeight, height - offsetY);
-            int offsetX = 0;
-            while (offsetX < width) {
-                int drawW = Math.min(sourceWidth, width - offsetX);
-                guiGraphics.blit(
-                        texture,
-                        x + offsetX,
-                        y + offsetY,
-                        sourceU,
-                        sourceV,
-                        drawW,
-                        drawH,
-                        NINE_SLICE_TEXTURE_SIZE,
-                        NINE_SLICE_TEXTURE_SIZE);
-                offsetX += drawW;
-            }
-            offsetY += drawH;
-        }
+                AshwakeTextureVariants.guiToPixels(drawWidth),
+                AshwakeTextureVariants.guiToPixels(drawHeight));
+        AshwakeQuadBatch batch = AshwakeQuadBatch.begin(guiGraphics, variant);
+        batch.quad(drawX, drawY, drawX + drawWidth, drawY + drawHeight, 0.0F, 0.0F, 1.0F, 1.0F);
+        batch.end();
     }
 }
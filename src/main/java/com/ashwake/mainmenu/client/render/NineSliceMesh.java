@@ -0,0 +1,166 @@
+package com.ashwake.mainmenu.client.render;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import net.minecraft.client.Minecraft;
+import net.minecraft.resources.ResourceLocation;
+
+final class NineSliceMesh {
+    private static final int FLOATS_PER_QUAD = 8;
+    private static final int MAX_CACHED_MESHES = 512;
+    private static final Map<Key, NineSliceMesh> CACHE = new HashMap<>();
+
+    private static int cachedGuiWidth = -1;
+    private static int cachedGuiHeight = -1;
+    private static int cachedAtlasGeneration = -1;
+
+    // Per quad: x1, y1, x2, y2 relative to the mesh origin, then u1, v1, u2, v2 (atlas UVs when the texture is stitched).
+    private final float[] quads;
+    private final int quadCount;
+
+    private NineSliceMesh(float[] quads, int quadCount) {
+        this.quads = quads;
+        this.quadCount = quadCount;
+    }
+
+    static NineSliceMesh get(ResourceLocation texture, int width, int height, int corner) {
+        invalidateOnResize();
+        // Refresh the atlas before the lookup; build() must never trigger a rebuild while the cache is being filled.
+        int atlasGeneration = AshwakeUiAtlas.generation();
+        if (atlasGeneration != cachedAtlasGeneration) {
+            CACHE.clear();
+            cachedAtlasGeneration = atlasGeneration;
+        }
+        if (CACHE.size() >= MAX_CACHED_MESHES) {
+            CACHE.clear();
+        }
+        return CACHE.computeIfAbsent(new Key(texture, width, height, corner), key -> build(key.texture(), key.width(), key.height(), key.corner()));
+    }
+
+    void emit(AshwakeQuadBatch batch, int x, int y) {
+        for (int i = 0; i < quadCount; i++) {
+            int base = i * FLOATS_PER_QUAD;
+            batch.quad(
+                    x + quads[base],
+                    y + quads[base + 1],
+                    x + quads[base + 2],
+                    y + quads[base + 3],
+                    quads[base + 4],
+                    quads[base + 5],
+                    quads[base + 6],
+                    quads[base + 7]);
+        }
+    }
+
+    int quadCount() {
+        return quadCount;
+    }
+
+    private static void invalidateOnResize() {
+        Minecraft minecraft = Minecraft.getInstance();
+        if (minecraft == null) {
+            return;
+        }
+        int guiWidth = minecraft.getWindow().getGuiScaledWidth();
+        int guiHeight = minecraft.getWindow().getGuiScaledHeight();
+        if (guiWidth != cachedGuiWidth || guiHeight != cachedGuiHeight) {
+            CACHE.clear();
+            cachedGuiWidth = guiWidth;
+            cachedGuiHeight = guiHeight;
+        }
+    }
+
+    private static NineSliceMesh build(ResourceLocation texture, int width, int height, int corner) {
+        Builder builder = new Builder(AshwakeUiAtlas.builtSprite(texture));
+        int size = AshwakeUiSkin.NINE_SLICE_TEXTURE_SIZE;
+        if (corner <= 0) {
+            builder.tile(0, 0, width, height, 0, 0, size, size);
+            return builder.toMesh();
+        }
+
+        int centerSourceSize = size - (corner * 2);
+        int innerWidth = width - (corner * 2);
+        int innerHeight = height - (corner * 2);
+
+        // Corners.
+        builder.quad(0, 0, corner, corner, 0, 0);
+        builder.quad(width - corner, 0, corner, corner, size - corner, 0);
+        builder.quad(0, height - corner, corner, corner, 0, size - corner);
+        builder.quad(width - corner, height - corner, corner, corner, size - corner, size - corner);
+
+        if (innerWidth > 0) {
+            builder.tile(corner, 0, innerWidth, corner, corner, 0, centerSourceSize, corner);
+            builder.tile(corner, height - corner, innerWidth, corner, corner, size - corner, centerSourceSize, corner);
+        }
+
+        if (innerHeight > 0) {
+            builder.tile(0, corner, corner, innerHeight, 0, corner, corner, centerSourceSize);
+            builder.tile(width - corner, corner, corner, innerHeight, size - corner, corner, corner, centerSourceSize);
+        }
+
+        if (innerWidth > 0 && innerHeight > 0) {
+            builder.tile(corner, corner, innerWidth, innerHeight, corner, corner, centerSourceSize, centerSourceSize);
+        }
+        return builder.toMesh();
+    }
+
+    private static final class Builder {
+        private final AshwakeUiAtlas.Sprite sprite;
+        private float[] data = new float[FLOATS_PER_QUAD * 16];
+        private int count;
+
+        Builder(AshwakeUiAtlas.Sprite sprite) {
+            this.sprite = sprite;
+        }
+
+        void tile(int x, int y, int width, int height, int sourceU, int sourceV, int sourceWidth, int sourceHeight) {
+            int offsetY = 0;
+            while (offsetY < height) {
+                int drawH = Math.min(sourceHeight, height - offsetY);
+                int offsetX = 0;
+                while (offsetX < width) {
+                    int drawW = Math.min(sourceWidth, width - offsetX);
+                    quad(x + offsetX, y + offsetY, drawW, drawH, sourceU, sourceV);
+                    offsetX += drawW;
+                }
+                offsetY += drawH;
+            }
+        }
+
+        void quad(int x, int y, int width, int height, int sourceU, int sourceV) {
+            if (width <= 0 || height <= 0) {
+                return;
+            }
+            int base = count * FLOATS_PER_QUAD;
+            if (base + FLOATS_PER_QUAD > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            float size = AshwakeUiSkin.NINE_SLICE_TEXTURE_SIZE;
+            data[base] = x;
+            data[base + 1] = y;
+            data[base + 2] = x + width;
+            data[base + 3] = y + height;
+            data[base + 4] = u(sourceU / size);
+            data[base + 5] = v(sourceV / size);
+            data[base + 6] = u((sourceU + width) / size);
+            data[base + 7] = v((sourceV + height) / size);
+            count++;
+        }
+
+        private float u(float fraction) {
+            return sprite == null ? fraction : sprite.u(fraction);
+        }
+
+        private float v(float fraction) {
+            return sprite == null ? fraction : sprite.v(fraction);
+        }
+
+        NineSliceMesh toMesh() {
+            return new NineSliceMesh(Arrays.copyOf(data, count * FLOATS_PER_QUAD), count);
+        }
+    }
+
+    private record Key(ResourceLocation texture, int width, int height, int corner) {
+    }
+}
@@ -47,6 +47,7 @@ public final class AshwakeChangelogScreen extends AshwakeScreenBase {
     private int scrollOffset;
     private int maxScroll;
     private boolean needsRefresh;
+    private boolean changelogPending;
     private boolean stackedCategoryLayout;
     private int categoryLabelX;
     private int categoryLabelY;
@@ -68,11 +69,8 @@ public final class AshwakeChangelogScreen extends AshwakeScreenBase {
 
     @Override
     protected void init() {
-        loaded = loader.load();
-        categories = new ArrayList<>(loaded.sections().keySet());
-        if (categories.isEmpty()) {
-            categories = List.of("Highlights");
-        }
+        // Opens on whatever is ready; mod sections are swapped in when aggregation completes.
+        applyLoaded(loader.loadCached());
 
         panelWidth = safePanelWidth(780);
         panelX = safePanelX(780);
@@ -142,6 +140,12 @@ public final class AshwakeChangelogScreen extends AshwakeScreenBase {
         maxScroll = 0;
         refreshHeaderLabels();
         needsRefresh = true;
+
+        // Requested last: the client executor may run the callback inline, and it needs the widgets above.
+        if (!loaded.complete() && !changelogPending) {
+            changelogPending = true;
+            loader.loadAsync(minecraft).thenAccept(this::onChangelogAggregated);
+        }
     }
 
     @Override
@@ -305,6 +309,9 @@ public final class AshwakeChangelogScreen extends AshwakeScreenBase {
             }
             visibleLines.add(line);
         }
+        if (lines.isEmpty() && changelogPending) {
+            visibleLines.add(Component.translatable("menu.ashwake.changelog.loading").getString());
+        }
 
         int lineHeight = 11;
         int scrollableHeight = Math.max(20, contentHeight() - 16);
@@ -312,6 +319,27 @@ public final class AshwakeChangelogScreen extends AshwakeScreenBase {
         maxScroll = Math.max(0, (totalHeight + CONTENT_BOTTOM_SAFE_PADDING) - scrollableHeight);
     }
 
+    private void applyLoaded(LoadedChangelog changelog) {
+        loaded = changelog;
+        categories = new ArrayList<>(changelog.sections().keySet());
+        if (categories.isEmpty()) {
+            categories = List.of("Highlights");
+        }
+        selectedCategoryIndex = Math.min(selectedCategoryIndex, categories.size() - 1);
+    }
+
+    private void onChangelogAggregated(LoadedChangelog changelog) {
+        changelogPending = false;
+        if (minecraft.screen != this) {
+            return;
+        }
+        String selectedCategory = categories.get(selectedCategoryIndex);
+        applyLoaded(changelog);
+        selectedCategoryIndex = Math.max(0, categories.indexOf(selectedCategory));
+        refreshHeaderLabels();
+        needsRefresh = true;
+    }
+
     private void refreshHeaderLabels() {
         String selectedCategory = categories.get(selectedCategoryIndex);
         categoryButton.setMessage(Component.literal(selectedCategory));
@@ -1,11 +1,13 @@
 package com.ashwake.mainmenu.client.screen;
 
 import com.ashwake.mainmenu.AshwakeMainMenuMod;
+import com.ashwake.mainmenu.client.data.AshwakeMarkdownScanner;
 import com.ashwake.mainmenu.client.render.AshwakeBranding;
 import com.ashwake.mainmenu.client.render.AshwakePalette;
 import com.ashwake.mainmenu.client.widget.AshwakeButton;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -123,34 +125,35 @@ public final class AshwakeFaqScreen extends AshwakeScreenBase {
             return;
         }
 
-        String markdown;
-        try (InputStream stream = resource.get().open()) {
-            markdown = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        List<FaqLine> lines = new ArrayList<>();
+        try (Reader reader = new InputStreamReader(resource.get().open(), StandardCharsets.UTF_8)) {
+            AshwakeMarkdownScanner.scan(reader, new AshwakeMarkdownScanner.Visitor() {
+                @Override
+                public void section(String title) {
+                    lines.add(new FaqLine(Component.literal(title), AshwakePalette.LAVA_YELLOW));
+                }
+
+                @Override
+                public void bullet(String text) {
+                    lines.add(new FaqLine(Component.literal("- " + text), AshwakePalette.BONE_WHITE));
+                }
+
+                @Override
+                public void paragraph(String text) {
+                    lines.add(new FaqLine(Component.literal(text), AshwakePalette.MUTED_TEXT));
+                }
+
+                @Override
+                public void blank() {
+                    lines.add(new FaqLine(Component.empty(), AshwakePalette.BONE_WHITE));
+                }
+            });
         } catch (IOException exception) {
             parsedLines.add(new FaqLine(Component.translatable("menu.ashwake.faq.missing"), AshwakePalette.BONE_WHITE));
             AshwakeMainMenuMod.LOGGER.warn("Failed reading FAQ resource {}", FAQ_RESOURCE, exception);
             return;
         }
-
-        for (String rawLine : markdown.split("\\R")) {
-            String line = rawLine.trim();
-            if (line.isEmpty()) {
-                parsedLines.add(new FaqLine(Component.empty(), AshwakePalette.BONE_WHITE));
-                continue;
-            }
-            if (line.startsWith("# ")) {
-                continue;
-            }
-            if (line.startsWith("## ")) {
-                parsedLines.add(new FaqLine(Component.literal(line.substring(3).trim()), AshwakePalette.LAVA_YELLOW));
-                continue;
-            }
-            if (line.startsWith("- ") || line.startsWith("* ")) {
-                parsedLines.add(new FaqLine(Component.literal("- " + line.substring(2).trim()), AshwakePalette.BONE_WHITE));
-                continue;
-            }
-            parsedLines.add(new FaqLine(Component.literal(line), AshwakePalette.MUTED_TEXT));
-        }
+        parsedLines.addAll(lines);
     }
 
     private void wrapFaqLines() {
@@ -4,6 +4,7 @@ import com.ashwake.mainmenu.AshwakeMainMenuMod;
 import com.ashwake.mainmenu.api.GuidanceCard;
 import com.ashwake.mainmenu.client.render.AshwakeBranding;
 import com.ashwake.mainmenu.client.render.AshwakePalette;
+import com.ashwake.mainmenu.client.render.AshwakeUiSkin;
 import com.ashwake.mainmenu.client.widget.AshwakeButton;
 import com.ashwake.mainmenu.internal.AshwakeMenuApiImpl;
 import java.lang.reflect.Constructor;
@@ -69,6 +70,7 @@ public final class AshwakeGuidanceScreen extends AshwakeScreenBase {
                     Component.translatable(card.titleKey()),
                     AshwakeButton.Icon.GUIDANCE,
                     b -> runCardAction(card)));
+            button.setCustomIconTexture(AshwakeUiSkin.parseIconTexture(card.iconTexture()));
             if ("ashwake:controls".equals(card.id())) {
                 button.setTooltip(Tooltip.create(Component.translatable("menu.ashwake.guidance.controls.tooltip")));
             }
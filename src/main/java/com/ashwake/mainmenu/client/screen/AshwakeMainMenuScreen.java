@@ -6,8 +6,13 @@ import com.ashwake.mainmenu.api.MenuAction;
 import com.ashwake.mainmenu.client.AshwakeClientRuntime;
 import com.ashwake.mainmenu.client.data.AshwakeChangelogLoader;
 import com.ashwake.mainmenu.client.data.AshwakeChangelogLoader.LoadedChangelog;
+import com.ashwake.mainmenu.client.data.AshwakeMarkdownScanner;
+import com.ashwake.mainmenu.client.data.AshwakeRemoteChangelog;
+import com.ashwake.mainmenu.client.render.AshwakeAnimationClock;
 import com.ashwake.mainmenu.client.render.AshwakeBranding;
 import com.ashwake.mainmenu.client.render.AshwakePalette;
+import com.ashwake.mainmenu.client.render.AshwakeParticleTelemetry;
+import com.ashwake.mainmenu.client.render.AshwakeUiSkin;
 import com.ashwake.mainmenu.client.widget.AshwakeButton;
 import com.ashwake.mainmenu.client.widget.AshwakeButton.Icon;
 import com.ashwake.mainmenu.config.AshwakeClientConfig;
@@ -21,6 +26,7 @@ import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.Tooltip;
 import net.minecraft.client.gui.screens.options.LanguageSelectScreen;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.FormattedCharSequence;
 import net.minecraft.util.Mth;
 import net.neoforged.fml.ModList;
@@ -72,6 +78,8 @@ public final class AshwakeMainMenuScreen extends AshwakeScreenBase {
     private int currentTipIndex;
     private long lastTipSwap;
     private boolean stackedLayout;
+    private boolean changelogPending;
+    private int remoteChangelogRevision;
     private int previewTextScrollOffset;
     private int previewTextMaxScroll;
     private int previewTextAreaX;
@@ -139,22 +147,24 @@ public final class AshwakeMainMenuScreen extends AshwakeScreenBase {
 
     private void buildActionButtons() {
         List<ButtonSpec> specs = new ArrayList<>();
-        specs.add(new ButtonSpec(Component.translatable("menu.ashwake.play"), Icon.PLAY, button -> minecraft.setScreen(new AshwakePlayHubScreen(this))));
-        specs.add(new ButtonSpec(Component.translatable("menu.ashwake.options"), Icon.OPTIONS, button -> minecraft.setScreen(new AshwakeSettingsScreen(this))));
-        specs.add(new ButtonSpec(Component.translatable("menu.ashwake.changelog"), Icon.CHANGELOG, button -> minecraft.setScreen(new AshwakeChangelogScreen(this))));
-        specs.add(new ButtonSpec(Component.translatable("menu.ashwake.discord"), Icon.DISCORD, button -> openDiscordLink()));
-        specs.add(new ButtonSpec(Component.translatable("menu.ashwake.quit"), Icon.QUIT, button -> minecraft.stop()));
+        specs.add(new ButtonSpec(Component.translatable("menu.ashwake.play"), Icon.PLAY, null, button -> minecraft.setScreen(new AshwakePlayHubScreen(this))));
+        specs.add(new ButtonSpec(Component.translatable("menu.ashwake.options"), Icon.OPTIONS, null, button -> minecraft.setScreen(new AshwakeSettingsScreen(this))));
+        specs.add(new ButtonSpec(Component.translatable("menu.ashwake.changelog"), Icon.CHANGELOG, null, button -> minecraft.setScreen(new AshwakeChangelogScreen(this))));
+        specs.add(new ButtonSpec(Component.translatable("menu.ashwake.discord"), Icon.DISCORD, null, button -> openDiscordLink()));
+        specs.add(new ButtonSpec(Component.translatable("menu.ashwake.quit"), Icon.QUIT, null, button -> minecraft.stop()));
 
         for (MenuAction action : AshwakeMenuApiImpl.getInstance().getMainMenuActions()) {
             specs.add(new ButtonSpec(
                     Component.translatable(action.labelKey()),
                     Icon.NONE,
+                    AshwakeUiSkin.parseIconTexture(action.iconTexture()),
                     button -> AshwakeMenuApiImpl.getInstance().invokeExternalCallback("mainmenu:" + action.id(), action.onClick())));
         }
 
         for (int i = 0; i < specs.size(); i++) {
             ButtonSpec spec = specs.get(i);
             AshwakeButton button = new AshwakeButton(0, 0, 200, ACTION_BUTTON_HEIGHT, spec.label(), spec.icon(), spec.onPress());
+            button.setCustomIconTexture(spec.iconTexture());
             if (i == 3 && AshwakeClientConfig.discordUrl().isBlank()) {
                 button.active = false;
                 button.setTooltip(Tooltip.create(Component.translatable("menu.ashwake.discord.comingSoon")));
@@ -168,6 +178,14 @@ public final class AshwakeMainMenuScreen extends AshwakeScreenBase {
     public void tick() {
         super.tick();
 
+        // The remote copy arrives or changes off-thread; re-read the preview when it does.
+        int remoteRevision = AshwakeRemoteChangelog.shared().revision();
+        if (remoteRevision != remoteChangelogRevision) {
+            remoteChangelogRevision = remoteRevision;
+            applyLatestUpdate(changelogLoader.loadCached());
+            refreshWrappedPreviewText();
+        }
+
         if (!tips.isEmpty()) {
             long now = Util.getMillis();
             if (now - lastTipSwap >= TIP_ROTATE_MS) {
@@ -230,7 +248,7 @@ public final class AshwakeMainMenuScreen extends AshwakeScreenBase {
     private void drawHeader(GuiGraphics guiGraphics, int shellX, int shellWidth) {
         float pulse = AshwakeClientConfig.reducedMotion()
                 ? 0.5F
-                : (0.5F + (0.5F * Mth.sin((Util.getMillis() / 5000.0F) * Mth.TWO_PI)));
+                : (0.5F + (0.5F * Mth.sin((AshwakeAnimationClock.millis() / 5000.0F) * Mth.TWO_PI)));
         int logoMaxWidth = Mth.clamp((int) (width * 0.55F), 96, 440);
         int logoHeight = AshwakeBranding.drawCenteredLogo(guiGraphics, font, width / 2, 16, logoMaxWidth, 170, pulse);
 
@@ -300,6 +318,12 @@ public final class AshwakeMainMenuScreen extends AshwakeScreenBase {
                     AshwakeClientConfig.forceSharpBackground() ? "ON" : "OFF");
             int textWidth = font.width(text);
             guiGraphics.drawString(font, text, shellX + shellWidth - textWidth - 12, footerButtonY() + 7, AshwakePalette.MUTED_TEXT);
+
+            int lineY = 6;
+            for (String line : AshwakeParticleTelemetry.overlayLines()) {
+                guiGraphics.drawString(font, line, 6, lineY, AshwakePalette.MUTED_TEXT);
+                lineY += font.lineHeight + 1;
+            }
         }
     }
 
@@ -420,7 +444,9 @@ public final class AshwakeMainMenuScreen extends AshwakeScreenBase {
         int wrapWidth = Math.max(120, rightPanelWidth - (PANEL_PADDING * 2) - 8);
         wrappedLatestLines.clear();
         if (latestUpdateLines.isEmpty()) {
-            wrappedLatestLines.addAll(font.split(Component.translatable("menu.ashwake.main.updatesSoon"), wrapWidth));
+            wrappedLatestLines.addAll(font.split(
+                    Component.translatable(changelogPending ? "menu.ashwake.main.updatesLoading" : "menu.ashwake.main.updatesSoon"),
+                    wrapWidth));
         } else {
             for (String line : latestUpdateLines) {
                 wrappedLatestLines.addAll(font.split(Component.literal("- " + line), wrapWidth));
@@ -438,10 +464,35 @@ public final class AshwakeMainMenuScreen extends AshwakeScreenBase {
     }
 
     private void loadPreviewData() {
-        latestUpdateLines.clear();
         tips.clear();
 
-        LoadedChangelog loaded = changelogLoader.load();
+        remoteChangelogRevision = AshwakeRemoteChangelog.shared().revision();
+        LoadedChangelog loaded = changelogLoader.loadCached();
+        applyLatestUpdate(loaded);
+        if (!loaded.complete()) {
+            changelogLoader.loadAsync(minecraft).thenAccept(this::onChangelogAggregated);
+        }
+
+        tips.addAll(FALLBACK_TIPS);
+        for (String configured : AshwakeClientConfig.loadingTips()) {
+            String clean = configured == null ? "" : configured.trim();
+            if (!clean.isBlank() && !tips.contains(clean)) {
+                tips.add(clean);
+            }
+        }
+    }
+
+    private void onChangelogAggregated(LoadedChangelog loaded) {
+        if (minecraft.screen != this) {
+            return;
+        }
+        applyLatestUpdate(loaded);
+        refreshWrappedPreviewText();
+    }
+
+    private void applyLatestUpdate(LoadedChangelog loaded) {
+        latestUpdateLines.clear();
+        changelogPending = !loaded.complete();
         Map<String, List<String>> sections = loaded.sections();
         List<String> highlights = sections.getOrDefault("Highlights", List.of());
         if (highlights.isEmpty()) {
@@ -454,7 +505,7 @@ public final class AshwakeMainMenuScreen extends AshwakeScreenBase {
         }
 
         for (String line : highlights) {
-            String cleaned = line.replaceFirst("^[*-]\\s*", "").trim();
+            String cleaned = AshwakeMarkdownScanner.stripBulletMarker(line).trim();
             if (!cleaned.isBlank()) {
                 latestUpdateLines.add(cleaned);
             }
@@ -462,14 +513,6 @@ public final class AshwakeMainMenuScreen extends AshwakeScreenBase {
                 break;
             }
         }
-
-        tips.addAll(FALLBACK_TIPS);
-        for (String configured : AshwakeClientConfig.loadingTips()) {
-            String clean = configured == null ? "" : configured.trim();
-            if (!clean.isBlank() && !tips.contains(clean)) {
-                tips.add(clean);
-            }
-        }
     }
 
     private void openDiscordLink() {
@@ -567,6 +610,7 @@ public final class AshwakeMainMenuScreen extends AshwakeScreenBase {
     private record ButtonSpec(
             Component label,
             Icon icon,
+            ResourceLocation iconTexture,
             AshwakeButton.OnPress onPress) {
     }
 
@@ -46,8 +46,6 @@ public final class AshwakeMultiplayerScreen extends JoinMultiplayerScreen {
     @Nullable
     private static final Field LAN_DETECTOR_FIELD = resolveLanDetectorField();
 
-    private static final AshwakeBackgroundRenderer BACKGROUND_RENDERER = new AshwakeBackgroundRenderer();
-
     private Button vanillaSelectButton;
     private Button vanillaDirectButton;
     private Button vanillaAddButton;
@@ -126,7 +124,7 @@ public final class AshwakeMultiplayerScreen extends JoinMultiplayerScreen {
 
     @Override
     public void renderBackground(GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTick) {
-        BACKGROUND_RENDERER.render(
+        AshwakeBackgroundRenderer.shared().render(
                 guiGraphics,
                 this.width,
                 this.height,
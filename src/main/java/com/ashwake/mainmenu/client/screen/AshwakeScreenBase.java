@@ -18,14 +18,12 @@ public abstract class AshwakeScreenBase extends Screen {
     protected static final int CONTENT_BOTTOM_SAFE_PADDING = FOOTER_HEIGHT + 12;
     protected static final int PANEL_PADDING = 16;
 
-    private static final AshwakeBackgroundRenderer BACKGROUND_RENDERER = new AshwakeBackgroundRenderer();
-
     protected AshwakeScreenBase(Component title) {
         super(title);
     }
 
     protected void renderAshwakeBackground(GuiGraphics guiGraphics, int screenWidth, int screenHeight, float partialTick) {
-        BACKGROUND_RENDERER.render(
+        AshwakeBackgroundRenderer.shared().render(
                 guiGraphics,
                 screenWidth,
                 screenHeight,
@@ -43,8 +43,6 @@ public final class AshwakeSelectWorldScreen extends SelectWorldScreen {
     private static final int MIN_SIDEBAR_BUTTON_HEIGHT = 18;
     private static final Component NO_SELECTION_TOOLTIP = Component.translatable("menu.ashwake.selectworld.selectFirst");
 
-    private static final AshwakeBackgroundRenderer BACKGROUND_RENDERER = new AshwakeBackgroundRenderer();
-
     @Nullable
     private static final Field WORLD_LIST_FIELD = resolveField(SelectWorldScreen.class, "list");
     @Nullable
@@ -147,7 +145,7 @@ public final class AshwakeSelectWorldScreen extends SelectWorldScreen {
 
     @Override
     public void renderBackground(GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTick) {
-        BACKGROUND_RENDERER.render(
+        AshwakeBackgroundRenderer.shared().render(
                 guiGraphics,
                 this.width,
                 this.height,
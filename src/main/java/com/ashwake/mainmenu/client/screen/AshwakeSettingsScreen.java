@@ -1,6 +1,7 @@
 package com.ashwake.mainmenu.client.screen;
 
 import com.ashwake.mainmenu.client.render.AshwakePalette;
+import com.ashwake.mainmenu.client.render.AshwakeParticleTelemetry;
 import com.ashwake.mainmenu.client.widget.AshwakeButton;
 import com.ashwake.mainmenu.config.AshwakeClientConfig;
 import com.ashwake.mainmenu.config.AshwakeClientConfig.ChangelogMode;
@@ -53,6 +54,7 @@ public final class AshwakeSettingsScreen extends AshwakeScreenBase {
     private IntSlider particleDensitySlider;
     private AshwakeButton hoverParticlesToggle;
     private IntSlider hoverParticleDensitySlider;
+    private AshwakeButton parallaxToggle;
     private AshwakeButton reducedMotionToggle;
 
     private AshwakeButton performancePresetButton;
@@ -70,6 +72,8 @@ public final class AshwakeSettingsScreen extends AshwakeScreenBase {
 
     private AshwakeButton allowBlurForDebugButton;
     private AshwakeButton showSharpOverlayButton;
+    private AshwakeButton compositeBackgroundButton;
+    private AshwakeButton dumpTelemetryButton;
     private AshwakeButton resetSettingsButton;
 
     private int panelX;
@@ -208,6 +212,11 @@ public final class AshwakeSettingsScreen extends AshwakeScreenBase {
         hoverParticleDensitySlider = addContent(new IntSlider(0, 0, 120, ROW_HEIGHT, 0, 100,
                 AshwakeClientConfig::hoverParticleDensity, AshwakeClientConfig::setHoverParticleDensity, this::onChanged));
 
+        parallaxToggle = addContent(new AshwakeButton(0, 0, 120, ROW_HEIGHT, Component.empty(), AshwakeButton.Icon.NONE, b -> {
+            AshwakeClientConfig.setParallaxBackground(!AshwakeClientConfig.parallaxBackground());
+            onChanged();
+        }));
+
         reducedMotionToggle = addContent(new AshwakeButton(0, 0, 120, ROW_HEIGHT, Component.empty(), AshwakeButton.Icon.NONE, b -> {
             AshwakeClientConfig.setReducedMotion(!AshwakeClientConfig.reducedMotion());
             onChanged();
@@ -307,6 +316,15 @@ public final class AshwakeSettingsScreen extends AshwakeScreenBase {
             onChanged();
         }));
 
+        compositeBackgroundButton = addContent(new AshwakeButton(0, 0, 120, ROW_HEIGHT, Component.empty(), AshwakeButton.Icon.NONE, b -> {
+            AshwakeClientConfig.setCompositeBackground(!AshwakeClientConfig.compositeBackground());
+            onChanged();
+        }));
+
+        dumpTelemetryButton = addContent(new AshwakeButton(
+                0, 0, 120, ROW_HEIGHT, Component.translatable("menu.ashwake.settings.debug.dumpTelemetry"), AshwakeButton.Icon.NONE,
+                b -> AshwakeParticleTelemetry.dumpToLog("settings debug page")));
+
         resetSettingsButton = addContent(new AshwakeButton(0, 0, 120, ROW_HEIGHT, Component.empty(), AshwakeButton.Icon.NONE, b -> {
             long now = Util.getMillis();
             if (resetConfirmUntil > now) {
@@ -348,6 +366,7 @@ public final class AshwakeSettingsScreen extends AshwakeScreenBase {
         animationsToggle.setMessage(onOff(AshwakeClientConfig.animationsEnabled()));
         particlesToggle.setMessage(onOff(AshwakeClientConfig.particlesEnabled()));
         hoverParticlesToggle.setMessage(onOff(AshwakeClientConfig.hoverParticlesEnabled()));
+        parallaxToggle.setMessage(onOff(AshwakeClientConfig.parallaxBackground()));
         reducedMotionToggle.setMessage(onOff(AshwakeClientConfig.reducedMotion()));
 
         animationIntensitySlider.sync();
@@ -385,6 +404,7 @@ public final class AshwakeSettingsScreen extends AshwakeScreenBase {
         blurCompatGlobalButton.setMessage(onOff(AshwakeClientConfig.disableMenuBlurGlobally()));
         allowBlurForDebugButton.setMessage(onOff(AshwakeClientConfig.allowBlurForDebug()));
         showSharpOverlayButton.setMessage(onOff(AshwakeClientConfig.debugUi()));
+        compositeBackgroundButton.setMessage(onOff(AshwakeClientConfig.compositeBackground()));
         resetSettingsButton.setMessage(resetConfirmUntil > Util.getMillis()
                 ? Component.translatable("menu.ashwake.settings.debug.resetConfirm")
                 : Component.translatable("menu.ashwake.settings.debug.reset"));
@@ -467,6 +487,7 @@ public final class AshwakeSettingsScreen extends AshwakeScreenBase {
         y = row(Component.translatable("menu.ashwake.settings.row.particleDensity"), particleDensitySlider, y, null);
         y = row(Component.translatable("menu.ashwake.settings.row.hoverParticles"), hoverParticlesToggle, y, null);
         y = row(Component.translatable("menu.ashwake.settings.row.hoverParticleDensity"), hoverParticleDensitySlider, y, null);
+        y = row(Component.translatable("menu.ashwake.settings.row.parallax"), parallaxToggle, y, null);
         y = row(Component.translatable("menu.ashwake.settings.row.reducedMotion"), reducedMotionToggle, y, null);
         return info(Component.translatable("menu.ashwake.settings.info.reducedMotion"), y);
     }
@@ -521,6 +542,8 @@ public final class AshwakeSettingsScreen extends AshwakeScreenBase {
         y = section(Component.translatable("menu.ashwake.settings.section.debug"), y + 8);
         y = row(Component.translatable("menu.ashwake.settings.row.allowBlurForDebug"), allowBlurForDebugButton, y, null);
         y = row(Component.translatable("menu.ashwake.settings.row.showSharpOverlay"), showSharpOverlayButton, y, null);
+        y = row(Component.translatable("menu.ashwake.settings.row.compositeBackground"), compositeBackgroundButton, y, null);
+        y = row(Component.translatable("menu.ashwake.settings.row.particleTelemetry"), dumpTelemetryButton, y, null);
         y = info(Component.translatable("menu.ashwake.settings.info.debug"), y);
         return row(Component.translatable("menu.ashwake.settings.row.resetSettings"), resetSettingsButton, y, null);
     }
@@ -727,11 +750,13 @@ public final class AshwakeSettingsScreen extends AshwakeScreenBase {
         AshwakeClientConfig.setHoverParticlesEnabled(true);
         AshwakeClientConfig.setHoverParticleDensity(70);
         AshwakeClientConfig.setBackgroundDarken(45);
+        AshwakeClientConfig.setParallaxBackground(false);
         AshwakeClientConfig.setReducedMotion(false);
         AshwakeClientConfig.setDisableBlurOnAshwakeScreens(true);
         AshwakeClientConfig.setDisableMenuBlurGlobally(true);
         AshwakeClientConfig.setAllowBlurForDebug(false);
         AshwakeClientConfig.setForceSharpBackground(true);
+        AshwakeClientConfig.setCompositeBackground(true);
         AshwakeClientConfig.setDebugUi(false);
         AshwakeClientConfig.setChangelogMode(ChangelogMode.LOCAL_ONLY);
         AshwakeClientConfig.setDiscordUrl("https://discord.gg/EXAMPLE");
@@ -753,46 +778,13 @@ public final class AshwakeSettingsScreen extends AshwakeScreenBase {
         return switch (preset) {
             case LOW -> PerformancePreset.MEDIUM;
             case MEDIUM -> PerformancePreset.HIGH;
-            case HIGH -> PerformancePreset.LOW;
+            case HIGH -> PerformancePreset.AUTO;
+            case AUTO -> PerformancePreset.LOW;
         };
     }
 
     private PerformancePreset detectedPreset() {
-        for (PerformancePreset preset : PerformancePreset.values()) {
-            if (matchesPreset(preset)) {
-                return preset;
-            }
-        }
-        return null;
-    }
-
-    private static boolean matchesPreset(PerformancePreset preset) {
-        return switch (preset) {
-            case LOW -> AshwakeClientConfig.animationsEnabled()
-                    && AshwakeClientConfig.animationIntensity() == 35
-                    && !AshwakeClientConfig.particlesEnabled()
-                    && AshwakeClientConfig.particleDensity() == 15
-                    && AshwakeClientConfig.hoverParticlesEnabled()
-                    && AshwakeClientConfig.hoverParticleDensity() == 35
-                    && AshwakeClientConfig.backgroundDarken() == 52
-                    && AshwakeClientConfig.reducedMotion();
-            case MEDIUM -> AshwakeClientConfig.animationsEnabled()
-                    && AshwakeClientConfig.animationIntensity() == 70
-                    && AshwakeClientConfig.particlesEnabled()
-                    && AshwakeClientConfig.particleDensity() == 55
-                    && AshwakeClientConfig.hoverParticlesEnabled()
-                    && AshwakeClientConfig.hoverParticleDensity() == 70
-                    && AshwakeClientConfig.backgroundDarken() == 45
-                    && !AshwakeClientConfig.reducedMotion();
-            case HIGH -> AshwakeClientConfig.animationsEnabled()
-                    && AshwakeClientConfig.animationIntensity() == 100
-                    && AshwakeClientConfig.particlesEnabled()
-                    && AshwakeClientConfig.particleDensity() == 90
-                    && AshwakeClientConfig.hoverParticlesEnabled()
-                    && AshwakeClientConfig.hoverParticleDensity() == 90
-                    && AshwakeClientConfig.backgroundDarken() == 40
-                    && !AshwakeClientConfig.reducedMotion();
-        };
+        return AshwakeClientConfig.activePreset();
     }
 
     private boolean isInScrollableContent(double mouseX, double mouseY) {
@@ -1,9 +1,11 @@
 package com.ashwake.mainmenu.client.widget;
 
+import com.ashwake.mainmenu.client.render.AshwakeAnimationClock;
+import com.ashwake.mainmenu.client.render.AshwakeFrameGovernor;
+import com.ashwake.mainmenu.client.render.AshwakeHoverParticles;
 import com.ashwake.mainmenu.client.render.AshwakePalette;
 import com.ashwake.mainmenu.client.render.AshwakeUiSkin;
 import com.ashwake.mainmenu.config.AshwakeClientConfig;
-import net.minecraft.Util;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.Button;
@@ -14,12 +16,8 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.util.Mth;
-import net.minecraft.util.RandomSource;
 
 public class AshwakeButton extends Button {
-    private static final float HOVER_ENTER_SPEED = 8.0F;
-    private static final float HOVER_EXIT_SPEED = 6.4F;
-
     public enum Icon {
         NONE,
         PLAY,
@@ -31,11 +29,11 @@ public class AshwakeButton extends Button {
     }
 
     private final Icon icon;
+    private ResourceLocation customIconTexture;
     private float hoverProgress;
     private float clickFlash;
-    private float ambientAccumulator;
-    private long lastFrameNanos = Util.getNanos();
-    private final HoverParticleSystem particleSystem = new HoverParticleSystem();
+    private long lastFrameNanos = AshwakeAnimationClock.nanos();
+    private final AshwakeHoverParticles.Emitter particleEmitter = AshwakeHoverParticles.shared().createEmitter();
 
     public AshwakeButton(int x, int y, int width, int height, Component label, OnPress onPress) {
         this(x, y, width, height, label, Icon.NONE, onPress);
@@ -48,7 +46,7 @@ public class AshwakeButton extends Button {
 
     @Override
     public void renderWidget(GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTick) {
-        long nowNanos = Util.getNanos();
+        long nowNanos = AshwakeAnimationClock.nanos();
         float dt = Mth.clamp((nowNanos - lastFrameNanos) / 1_000_000_000F, 0.0F, 0.075F);
         lastFrameNanos = nowNanos;
 
@@ -60,22 +58,27 @@ public class AshwakeButton extends Button {
         boolean hovered = isHoveredOrFocused();
         boolean particlesEnabledForScreen = areUiParticlesEnabledForCurrentScreen();
         float previousHover = hoverProgress;
-        hoverProgress = animateHoverProgress(hoverProgress, active && hovered, dt);
-
-        if (active && hoverProgress > 0.01F && previousHover <= 0.01F) {
+        hoverProgress = AshwakeHoverParticles.shared().stepButton(
+                particleEmitter,
+                hoverProgress,
+                active && hovered,
+                particlesEnabledForScreen && AshwakeClientConfig.hoverParticlesEnabled(),
+                AshwakeClientConfig.reducedMotion(),
+                x,
+                y,
+                w,
+                h,
+                dt,
+                hoverDensityScale());
+        if (active && AshwakeHoverParticles.entered(previousHover, hoverProgress)) {
             playHoverSound();
-            if (particlesEnabledForScreen) {
-                spawnHoverEnterBurst(x, y, w, h);
-            }
         }
 
-        maybeSpawnHoverAmbient(x, y, w, h, dt, active && hovered, particlesEnabledForScreen);
         clickFlash = Math.max(0F, clickFlash - (dt * 7.5F));
         if (particlesEnabledForScreen) {
-            particleSystem.updateAndRender(guiGraphics, dt);
+            AshwakeHoverParticles.shared().renderOnce(guiGraphics);
         } else {
-            ambientAccumulator = 0F;
-            particleSystem.clear();
+            AshwakeHoverParticles.shared().clear(particleEmitter);
         }
         boolean pressed = active && hovered && Minecraft.getInstance().mouseHandler.isLeftPressed();
         int drawY = y + Math.round((hoverProgress * -1.0F) + (pressed ? hoverProgress : 0F));
@@ -99,11 +102,13 @@ public class AshwakeButton extends Button {
             guiGraphics.fill(x + 1, drawY + 1, x + w - 1, drawY + h - 1, (flashAlpha << 24) | 0xF5A14B);
         }
 
-        int iconSpace = icon == Icon.NONE ? 0 : 16;
-        if (icon != Icon.NONE) {
+        boolean hasIcon = hasIcon();
+        int iconSpace = hasIcon ? 16 : 0;
+        if (hasIcon) {
             int iconX = x + 6;
             int iconY = drawY + (h - 12) / 2;
-            if (!drawTextureIcon(guiGraphics, iconX, iconY, icon, active, hoverProgress)) {
+            ResourceLocation iconTexture = customIconTexture != null ? customIconTexture : iconTexture(icon);
+            if (!drawTextureIcon(guiGraphics, iconX, iconY, iconTexture, active, hoverProgress)) {
                 drawIcon(guiGraphics, iconX, iconY, icon, tintedByHover(active ? AshwakePalette.BONE_WHITE : 0xFF9E9890, hoverProgress, 0.12F));
             }
         }
@@ -113,13 +118,21 @@ public class AshwakeButton extends Button {
         int packedTextColor = (textColor & 0x00FFFFFF) | alphaBits;
         int textY = drawY + (h - 8) / 2;
 
-        if (icon == Icon.NONE) {
+        if (!hasIcon) {
             guiGraphics.drawCenteredString(Minecraft.getInstance().font, getMessage(), x + (w / 2), textY, packedTextColor);
         } else {
             guiGraphics.drawString(Minecraft.getInstance().font, getMessage(), x + 8 + iconSpace, textY, packedTextColor);
         }
     }
 
+    public void setCustomIconTexture(ResourceLocation texture) {
+        customIconTexture = texture;
+    }
+
+    private boolean hasIcon() {
+        return icon != Icon.NONE || (customIconTexture != null && AshwakeUiSkin.hasTexture(customIconTexture));
+    }
+
     @Override
     public void playDownSound(SoundManager soundManager) {
         soundManager.play(SimpleSoundInstance.forUI(SoundEvents.UI_BUTTON_CLICK.value(), 0.9F, 0.88F));
@@ -135,53 +148,15 @@ public class AshwakeButton extends Button {
         minecraft.getSoundManager().play(SimpleSoundInstance.forUI(SoundEvents.UI_BUTTON_CLICK.value(), 0.32F, 1.45F));
     }
 
-    private static float animateHoverProgress(float current, boolean hovered, float dt) {
-        float speed = hovered ? HOVER_ENTER_SPEED : HOVER_EXIT_SPEED;
-        if (hovered) {
-            return Mth.clamp(current + speed * dt, 0.0F, 1.0F);
-        }
-        return Mth.clamp(current - speed * dt, 0.0F, 1.0F);
-    }
-
-    private void maybeSpawnHoverAmbient(int x, int y, int w, int h, float dt, boolean hovered, boolean particlesEnabledForScreen) {
-        if (!hovered
-                || hoverProgress <= 0.15F
-                || AshwakeClientConfig.reducedMotion()
-                || !AshwakeClientConfig.hoverParticlesEnabled()
-                || !particlesEnabledForScreen) {
-            ambientAccumulator = 0F;
-            return;
-        }
-
-        float densityScale = Mth.clamp(AshwakeClientConfig.hoverParticleDensity() / 100.0F, 0.0F, 1.0F);
-        float ambientRate = Mth.lerp(hoverProgress, 1.0F, 4.0F) * densityScale;
-        ambientAccumulator += ambientRate * dt;
-
-        int softCap = 8 + (int) (densityScale * 22);
-        while (ambientAccumulator >= 1.0F) {
-            ambientAccumulator -= 1.0F;
-            particleSystem.spawnAmbient(x, y, w, h, softCap);
-        }
-    }
-
-    private void spawnHoverEnterBurst(int x, int y, int w, int h) {
+    private void spawnClickBurst(int x, int y, int w, int h) {
         if (!AshwakeClientConfig.hoverParticlesEnabled() || !areUiParticlesEnabledForCurrentScreen()) {
             return;
         }
-        float densityScale = Mth.clamp(AshwakeClientConfig.hoverParticleDensity() / 100.0F, 0.0F, 1.0F);
-        int count = Mth.clamp(8 + Math.round(densityScale * 10.0F), 8, 18);
-        int softCap = 14 + (int) (densityScale * 28);
-        particleSystem.spawnBurst(x, y, w, h, count, 0.40F, 0.80F, 20F, 42F, 0.50F, 0.88F, 1.0F, 2.9F, softCap);
+        AshwakeHoverParticles.shared().emitClickBurst(particleEmitter, x, y, w, h, hoverDensityScale());
     }
 
-    private void spawnClickBurst(int x, int y, int w, int h) {
-        if (!AshwakeClientConfig.hoverParticlesEnabled() || !areUiParticlesEnabledForCurrentScreen()) {
-            return;
-        }
-        float densityScale = Mth.clamp(AshwakeClientConfig.hoverParticleDensity() / 100.0F, 0.0F, 1.0F);
-        int count = Mth.clamp(16 + Math.round(densityScale * 12.0F), 16, 28);
-        int softCap = 22 + (int) (densityScale * 36);
-        particleSystem.spawnBurst(x, y, w, h, count, 0.40F, 0.85F, 30F, 56F, 0.68F, 1.0F, 1.0F, 3.5F, softCap);
+    private static float hoverDensityScale() {
+        return Mth.clamp(AshwakeFrameGovernor.hoverParticleDensity(AshwakeClientConfig.hoverParticleDensity()) / 100.0F, 0.0F, 1.0F);
     }
 
     private static boolean areUiParticlesEnabledForCurrentScreen() {
@@ -205,22 +180,13 @@ public class AshwakeButton extends Button {
         return AshwakeUiSkin.BUTTON_IDLE;
     }
 
-    private static boolean drawTextureIcon(GuiGraphics guiGraphics, int x, int y, Icon icon, boolean active, float hoverProgress) {
-        ResourceLocation texture = iconTexture(icon);
+    private static boolean drawTextureIcon(GuiGraphics guiGraphics, int x, int y, ResourceLocation texture, boolean active, float hoverProgress) {
         if (texture == null || !AshwakeUiSkin.hasTexture(texture)) {
             return false;
         }
 
-        guiGraphics.blit(
-                texture,
-                x,
-                y,
-                0,
-                0,
-                12,
-                12,
-                AshwakeUiSkin.ICON_TEXTURE_SIZE,
-                AshwakeUiSkin.ICON_TEXTURE_SIZE);
+        float iconUv = 12.0F / AshwakeUiSkin.ICON_TEXTURE_SIZE;
+        AshwakeUiSkin.drawSprite(guiGraphics, texture, x, y, 12, 12, 0.0F, 0.0F, iconUv, iconUv);
         if (active && hoverProgress > 0.08F) {
             int sparkleAlpha = Mth.clamp((int) (22 * hoverProgress), 0, 22);
             guiGraphics.fill(x + 1, y + 1, x + 10, y + 4, (sparkleAlpha << 24) | 0xFFECC6);
@@ -286,7 +252,7 @@ public class AshwakeButton extends Button {
         }
         int shimmerWidth = 6;
         int sweepSpan = w + 24;
-        int sweepX = (int) ((Util.getMillis() / 8L) % sweepSpan) - 12;
+        int sweepX = (int) ((AshwakeAnimationClock.millis() / 8L) % sweepSpan) - 12;
         int px = x + sweepX;
         int alpha = Mth.clamp((int) (28 * hoverProgress), 0, 28);
         guiGraphics.fillGradient(px, y + 2, px + shimmerWidth, y + h - 2, (alpha << 24) | 0xFFF3CB, 0x00F3CB);
@@ -300,180 +266,6 @@ public class AshwakeButton extends Button {
         return (r << 16) | (g << 8) | b;
     }
 
-    private static final class HoverParticleSystem {
-        private static final int MAX_PARTICLES = 96;
-
-        private final boolean[] active = new boolean[MAX_PARTICLES];
-        private final float[] x = new float[MAX_PARTICLES];
-        private final float[] y = new float[MAX_PARTICLES];
-        private final float[] vx = new float[MAX_PARTICLES];
-        private final float[] vy = new float[MAX_PARTICLES];
-        private final float[] life = new float[MAX_PARTICLES];
-        private final float[] maxLife = new float[MAX_PARTICLES];
-        private final float[] size = new float[MAX_PARTICLES];
-        private final float[] alpha = new float[MAX_PARTICLES];
-
-        private final RandomSource random = RandomSource.create();
-        private int cursor;
-        private int activeCount;
-
-        void spawnBurst(
-                int buttonX,
-                int buttonY,
-                int buttonWidth,
-                int buttonHeight,
-                int count,
-                float minLife,
-                float maxLife,
-                float minSpeed,
-                float maxSpeed,
-                float minAlpha,
-                float maxAlpha,
-                float minSize,
-                float maxSize,
-                int softCap) {
-            for (int i = 0; i < count; i++) {
-                spawnFromTopOrCorners(
-                        buttonX,
-                        buttonY,
-                        buttonWidth,
-                        buttonHeight,
-                        minLife,
-                        maxLife,
-                        minSpeed,
-                        maxSpeed,
-                        minAlpha,
-                        maxAlpha,
-                        minSize,
-                        maxSize,
-                        softCap);
-            }
-        }
-
-        void spawnAmbient(int buttonX, int buttonY, int buttonWidth, int buttonHeight, int softCap) {
-            spawnFromTopOrCorners(buttonX, buttonY, buttonWidth, buttonHeight, 0.45F, 0.9F, 9F, 18F, 0.22F, 0.44F, 1.0F, 2.2F, softCap);
-        }
-
-        void updateAndRender(GuiGraphics guiGraphics, float dt) {
-            for (int i = 0; i < MAX_PARTICLES; i++) {
-                if (!active[i]) {
-                    continue;
-                }
-                life[i] += dt;
-                if (life[i] >= maxLife[i]) {
-                    active[i] = false;
-                    activeCount = Math.max(0, activeCount - 1);
-                    continue;
-                }
-
-                x[i] += vx[i] * dt;
-                y[i] += vy[i] * dt;
-                vy[i] += 28F * dt;
-
-                float lifeRatio = 1.0F - (life[i] / maxLife[i]);
-                int drawAlpha = Mth.clamp((int) (alpha[i] * lifeRatio * lifeRatio * 255.0F), 0, 255);
-                if (drawAlpha <= 0) {
-                    continue;
-                }
-
-                int drawSize = Math.max(1, Math.round(size[i]));
-                int color = (drawAlpha << 24) | colorFromLife(lifeRatio);
-                int drawX = Mth.floor(x[i]);
-                int drawY = Mth.floor(y[i]);
-                guiGraphics.fill(drawX, drawY, drawX + drawSize, drawY + drawSize, color);
-            }
-        }
-
-        void clear() {
-            for (int i = 0; i < MAX_PARTICLES; i++) {
-                active[i] = false;
-            }
-            activeCount = 0;
-            cursor = 0;
-        }
-
-        private void spawnFromTopOrCorners(
-                int buttonX,
-                int buttonY,
-                int buttonWidth,
-                int buttonHeight,
-                float minLife,
-                float maxLifeValue,
-                float minSpeed,
-                float maxSpeed,
-                float minAlpha,
-                float maxAlphaValue,
-                float minSize,
-                float maxSizeValue,
-                int softCap) {
-            int index = nextSlot(softCap);
-
-            float spawnX;
-            float spawnY;
-            int source = random.nextInt(10);
-            if (source < 6) {
-                // Mostly top-edge emitters for subtle upward drift.
-                spawnX = buttonX + 2 + random.nextFloat() * Math.max(2, buttonWidth - 4);
-                spawnY = buttonY + 1 + random.nextFloat() * 2.0F;
-            } else if (source < 8) {
-                // Top-left corner cluster.
-                spawnX = buttonX + 2 + random.nextFloat() * 6.0F;
-                spawnY = buttonY + 1 + random.nextFloat() * 4.0F;
-            } else {
-                // Top-right corner cluster.
-                spawnX = buttonX + buttonWidth - 2 - random.nextFloat() * 6.0F;
-                spawnY = buttonY + 1 + random.nextFloat() * 4.0F;
-            }
-
-            float speed = Mth.lerp(random.nextFloat(), minSpeed, maxSpeed);
-            x[index] = spawnX;
-            y[index] = spawnY;
-            vx[index] = (random.nextFloat() - 0.5F) * speed;
-            vy[index] = -(0.6F + random.nextFloat() * 0.8F) * speed;
-            life[index] = 0F;
-            maxLife[index] = Mth.lerp(random.nextFloat(), minLife, maxLifeValue);
-            size[index] = Mth.lerp(random.nextFloat(), minSize, maxSizeValue);
-            alpha[index] = Mth.lerp(random.nextFloat(), minAlpha, maxAlphaValue);
-        }
-
-        private int nextSlot(int softCap) {
-            if (activeCount < softCap) {
-                for (int i = 0; i < MAX_PARTICLES; i++) {
-                    int idx = (cursor + i) % MAX_PARTICLES;
-                    if (!active[idx]) {
-                        cursor = (idx + 1) % MAX_PARTICLES;
-                        active[idx] = true;
-                        activeCount++;
-                        return idx;
-                    }
-                }
-            }
-
-            int idx = cursor;
-            cursor = (cursor + 1) % MAX_PARTICLES;
-            if (!active[idx]) {
-                activeCount++;
-            }
-            active[idx] = true;
-            return idx;
-        }
-
-        private static int colorFromLife(float lifeRatio) {
-            int from = AshwakePalette.EMBER_ORANGE;
-            int to = AshwakePalette.LAVA_YELLOW;
-            int r1 = (from >> 16) & 0xFF;
-            int g1 = (from >> 8) & 0xFF;
-            int b1 = from & 0xFF;
-            int r2 = (to >> 16) & 0xFF;
-            int g2 = (to >> 8) & 0xFF;
-            int b2 = to & 0xFF;
-            int r = Mth.clamp((int) Mth.lerp(lifeRatio, r1, r2), 0, 255);
-            int g = Mth.clamp((int) Mth.lerp(lifeRatio, g1, g2), 0, 255);
-            int b = Mth.clamp((int) Mth.lerp(lifeRatio, b1, b2), 0, 255);
-            return (r << 16) | (g << 8) | b;
-        }
-    }
-
     private static void drawIcon(GuiGraphics guiGraphics, int x, int y, Icon icon, int color) {
         switch (icon) {
             case PLAY -> {
@@ -14,7 +14,8 @@ public final class AshwakeClientConfig {
     public enum PerformancePreset {
         LOW,
         MEDIUM,
-        HIGH
+        HIGH,
+        AUTO
     }
 
     public enum WindowTitleFormat {
@@ -33,6 +34,12 @@ public final class AshwakeClientConfig {
     private static final ModConfigSpec.IntValue HOVER_PARTICLE_DENSITY;
     private static final ModConfigSpec.IntValue BACKGROUND_DARKEN;
     private static final ModConfigSpec.BooleanValue FORCE_SHARP_BACKGROUND;
+    private static final ModConfigSpec.BooleanValue COMPOSITE_BACKGROUND;
+    private static final ModConfigSpec.BooleanValue PARALLAX_BACKGROUND;
+    private static final ModConfigSpec.IntValue TEXTURE_IDLE_EVICT_SECONDS;
+    private static final ModConfigSpec.IntValue EMBER_SIMULATION_HZ;
+    private static final ModConfigSpec.IntValue MAX_EMBERS;
+    private static final ModConfigSpec.BooleanValue PAUSE_WHEN_INACTIVE;
     private static final ModConfigSpec.BooleanValue ALLOW_BLUR_FOR_DEBUG;
     private static final ModConfigSpec.BooleanValue HIDE_REALMS_BUTTON;
     private static final ModConfigSpec.BooleanValue SHOW_MODS_BUTTON_DEV_ONLY;
@@ -84,6 +91,18 @@ public final class AshwakeClientConfig {
         HOVER_PARTICLE_DENSITY = BUILDER.defineInRange("hoverParticleDensity", 70, 0, 100);
         BACKGROUND_DARKEN = BUILDER.defineInRange("backgroundDarken", 45, 0, 100);
         FORCE_SHARP_BACKGROUND = BUILDER.define("forceSharpBackground", true);
+        COMPOSITE_BACKGROUND = BUILDER.comment("Render the static background layers once into an offscreen target and reuse it every frame.")
+                .define("compositeBackground", true);
+        PARALLAX_BACKGROUND = BUILDER.comment("Layer the far/mid/near background art with slow parallax drift.")
+                .define("parallaxBackground", false);
+        TEXTURE_IDLE_EVICT_SECONDS = BUILDER.comment("Release large menu textures after this many idle seconds in-world. 0 keeps them resident.")
+                .defineInRange("textureIdleEvictSeconds", 300, 0, 86400);
+        EMBER_SIMULATION_HZ = BUILDER.comment("Fixed update rate of the background ember simulation. Rendering interpolates between steps.")
+                .defineInRange("emberSimulationHz", 30, 10, 120);
+        MAX_EMBERS = BUILDER.comment("Upper bound on live background embers. Set by the performance preset.")
+                .defineInRange("maxEmbers", 450, 8, 8192);
+        PAUSE_WHEN_INACTIVE = BUILDER.comment("Freeze menu animations while the window is unfocused, minimized or covered by a loading overlay.")
+                .define("pauseWhenInactive", true);
         ALLOW_BLUR_FOR_DEBUG = BUILDER.comment("Developer-only toggle. Keep false in release builds.")
                 .define("allowBlurForDebug", false);
         HIDE_REALMS_BUTTON = BUILDER.define("hideRealmsButton", true);
@@ -194,6 +213,30 @@ public final class AshwakeClientConfig {
         return FORCE_SHARP_BACKGROUND.get();
     }
 
+    public static boolean compositeBackground() {
+        return COMPOSITE_BACKGROUND.get();
+    }
+
+    public static boolean parallaxBackground() {
+        return PARALLAX_BACKGROUND.get();
+    }
+
+    public static int textureIdleEvictSeconds() {
+        return TEXTURE_IDLE_EVICT_SECONDS.get();
+    }
+
+    public static int emberSimulationHz() {
+        return EMBER_SIMULATION_HZ.get();
+    }
+
+    public static int maxEmbers() {
+        return MAX_EMBERS.get();
+    }
+
+    public static boolean pauseWhenInactive() {
+        return PAUSE_WHEN_INACTIVE.get();
+    }
+
     public static boolean allowBlurForDebug() {
         return ALLOW_BLUR_FOR_DEBUG.get();
     }
@@ -350,6 +393,14 @@ public final class AshwakeClientConfig {
         FORCE_SHARP_BACKGROUND.set(allowBlurForDebug() && value);
     }
 
+    public static void setCompositeBackground(boolean value) {
+        COMPOSITE_BACKGROUND.set(value);
+    }
+
+    public static void setParallaxBackground(boolean value) {
+        PARALLAX_BACKGROUND.set(value);
+    }
+
     public static void setReducedMotion(boolean value) {
         REDUCED_MOTION.set(value);
     }
@@ -366,6 +417,10 @@ public final class AshwakeClientConfig {
         DISABLE_BLUR_ON_ASHWAKE_SCREENS.set(value);
     }
 
+    public static void setMaxEmbers(int value) {
+        MAX_EMBERS.set(value);
+    }
+
     public static void setPerformancePreset(PerformancePreset preset) {
         PERFORMANCE_PRESET.set(preset);
     }
@@ -410,6 +465,7 @@ public final class AshwakeClientConfig {
                 setHoverParticleDensity(35);
                 setBackgroundDarken(52);
                 setReducedMotion(true);
+                setMaxEmbers(200);
             }
             case MEDIUM -> {
                 setAnimationsEnabled(true);
@@ -420,8 +476,10 @@ public final class AshwakeClientConfig {
                 setHoverParticleDensity(70);
                 setBackgroundDarken(45);
                 setReducedMotion(false);
+                setMaxEmbers(450);
             }
-            case HIGH -> {
+            // AUTO starts from the HIGH values; AshwakeFrameGovernor scales them down at runtime.
+            case HIGH, AUTO -> {
                 setAnimationsEnabled(true);
                 setAnimationIntensity(100);
                 setParticlesEnabled(true);
@@ -430,8 +488,49 @@ public final class AshwakeClientConfig {
                 setHoverParticleDensity(90);
                 setBackgroundDarken(40);
                 setReducedMotion(false);
+                setMaxEmbers(1600);
+            }
+        }
+    }
+
+    // The preset whose values are all still in place, or null once any of them was edited by hand (CUSTOM).
+    public static PerformancePreset activePreset() {
+        for (PerformancePreset preset : PerformancePreset.values()) {
+            if (matchesPreset(preset)) {
+                return preset;
             }
         }
+        return null;
+    }
+
+    public static boolean matchesPreset(PerformancePreset preset) {
+        return switch (preset) {
+            case LOW -> animationsEnabled()
+                    && animationIntensity() == 35
+                    && !particlesEnabled()
+                    && particleDensity() == 15
+                    && hoverParticlesEnabled()
+                    && hoverParticleDensity() == 35
+                    && backgroundDarken() == 52
+                    && reducedMotion();
+            case MEDIUM -> animationsEnabled()
+                    && animationIntensity() == 70
+                    && particlesEnabled()
+                    && particleDensity() == 55
+                    && hoverParticlesEnabled()
+                    && hoverParticleDensity() == 70
+                    && backgroundDarken() == 45
+                    && !reducedMotion();
+            case HIGH, AUTO -> (performancePreset() == PerformancePreset.AUTO) == (preset == PerformancePreset.AUTO)
+                    && animationsEnabled()
+                    && animationIntensity() == 100
+                    && particlesEnabled()
+                    && particleDensity() == 90
+                    && hoverParticlesEnabled()
+                    && hoverParticleDensity() == 90
+                    && backgroundDarken() == 40
+                    && !reducedMotion();
+        };
     }
 
     public static void save() {
@@ -0,0 +1,192 @@
+package com.ashwake.mainmenu.internal;
+
+import com.ashwake.mainmenu.AshwakeMainMenuMod;
+import com.ashwake.mainmenu.api.ChangelogEntry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import net.neoforged.fml.loading.FMLPaths;
+
+// Binary snapshot of auto-discovered changelog entries, reused across launches while the mod list and resource packs are unchanged.
+final class AshwakeDiscoveryCache {
+    private static final int MAGIC = 0x41574443;
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_ENTRIES = 65_536;
+    private static final int MAX_STRING_BYTES = 1 << 20;
+    static final String FILE_NAME = "changelog_discovery.bin";
+
+    private AshwakeDiscoveryCache() {
+    }
+
+    static Path cacheDirectory() {
+        return FMLPaths.GAMEDIR.get().resolve(AshwakeMainMenuMod.MOD_ID).resolve("cache");
+    }
+
+    // Empty when the file is missing, written for a different key, or fails validation; corrupt files are deleted.
+    static Optional<List<ChangelogEntry>> read(String key) {
+        return read(cacheDirectory(), key);
+    }
+
+    static Optional<List<ChangelogEntry>> read(Path directory, String key) {
+        Path file = directory.resolve(FILE_NAME);
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file);
+        } catch (NoSuchFileException exception) {
+            return Optional.empty();
+        } catch (IOException exception) {
+            AshwakeMainMenuMod.LOGGER.warn("Ashwake changelog discovery cache unreadable: {}", file, exception);
+            return Optional.empty();
+        }
+
+        try {
+            if (bytes.length < Long.BYTES) {
+                throw new IOException("truncated");
+            }
+            int payloadLength = bytes.length - Long.BYTES;
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+            CRC32 crc = new CRC32();
+            crc.update(bytes, 0, payloadLength);
+            input.skipNBytes(payloadLength);
+            if (input.readLong() != crc.getValue()) {
+                throw new IOException("checksum mismatch");
+            }
+
+            input = new DataInputStream(new ByteArrayInputStream(bytes, 0, payloadLength));
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+                throw new IOException("unknown format");
+            }
+            byte[] storedDigest = input.readNBytes(input.readUnsignedByte());
+            if (!Arrays.equals(storedDigest, digest(key))) {
+                // A different mod list or pack stack; not corrupt, just stale.
+                return Optional.empty();
+            }
+
+            int count = input.readInt();
+            if (count < 0 || count > MAX_ENTRIES) {
+                throw new IOException("invalid entry count " + count);
+            }
+            List<ChangelogEntry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                entries.add(new ChangelogEntry(
+                        readString(input),
+                        readString(input),
+                        readString(input),
+                        readString(input),
+                        readString(input),
+                        readString(input),
+                        input.readLong(),
+                        input.readInt()));
+            }
+            if (input.available() != 0) {
+                throw new IOException("trailing bytes");
+            }
+            return Optional.of(List.copyOf(entries));
+        } catch (IOException | RuntimeException exception) {
+            AshwakeMainMenuMod.LOGGER.warn("Ashwake changelog discovery cache invalid ({}), rebuilding", exception.getMessage());
+            delete(file);
+            return Optional.empty();
+        }
+    }
+
+    static void write(String key, List<ChangelogEntry> entries) {
+        write(cacheDirectory(), key, entries);
+    }
+
+    static void write(Path directory, String key, List<ChangelogEntry> entries) {
+        Path file = directory.resolve(FILE_NAME);
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+            DataOutputStream output = new DataOutputStream(buffer);
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            byte[] digest = digest(key);
+            output.writeByte(digest.length);
+            output.write(digest);
+            output.writeInt(entries.size());
+            for (ChangelogEntry entry : entries) {
+                writeString(output, entry.sourceModId());
+                writeString(output, entry.sourceModName());
+                writeString(output, entry.version());
+                writeString(output, entry.category());
+                writeString(output, entry.title());
+                writeString(output, entry.bodyMarkdown());
+                output.writeLong(entry.timestampEpochMs());
+                output.writeInt(entry.sortOrder());
+            }
+            output.flush();
+            CRC32 crc = new CRC32();
+            crc.update(buffer.toByteArray());
+            output.writeLong(crc.getValue());
+            output.flush();
+
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, FILE_NAME, ".tmp");
+            try {
+                Files.write(temp, buffer.toByteArray());
+                move(temp, file);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException exception) {
+            AshwakeMainMenuMod.LOGGER.warn("Ashwake changelog discovery cache could not be written to {}", file, exception);
+        }
+    }
+
+    static byte[] digest(String key) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 unavailable", exception);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException exception) {
+            AshwakeMainMenuMod.LOGGER.debug("Ashwake could not delete cache file {}", file, exception);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IOException("invalid string length " + length);
+        }
+        byte[] bytes = input.readNBytes(length);
+        if (bytes.length != length) {
+            throw new IOException("truncated string");
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
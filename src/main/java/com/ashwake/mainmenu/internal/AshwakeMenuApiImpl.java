@@ -11,6 +11,7 @@ import com.ashwake.mainmenu.api.GuidanceCard;
 import com.ashwake.mainmenu.api.MenuAction;
 import com.ashwake.mainmenu.api.MenuContext;
 import com.ashwake.mainmenu.api.MenuState;
+import com.ashwake.mainmenu.api.ParticleEmitterSpec;
 import com.ashwake.mainmenu.config.AshwakeClientConfig;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -19,7 +20,12 @@ import com.google.gson.JsonParser;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
@@ -27,18 +33,28 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.minecraft.Util;
 import net.minecraft.client.Minecraft;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.resources.Resource;
+import net.minecraft.server.packs.resources.ResourceManager;
 import net.neoforged.fml.ModList;
 
 public final class AshwakeMenuApiImpl implements AshwakeMenuApi {
     private static final int PROVIDER_WARN_THRESHOLD_MS = 50;
     private static final String MOD_CHANGELOG_PATH = "ashwake/changes.json";
+    private static final String FILE_PACK_PREFIX = "file/";
+    // Discovery is I/O and JSON bound; a small pool leaves cores for the rest of startup.
+    private static final int DISCOVERY_PARALLELISM = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
 
     private static final Comparator<MenuAction> ACTION_ORDER = Comparator.comparingInt(MenuAction::sortOrder)
             .thenComparing(MenuAction::id);
@@ -51,16 +67,27 @@ public final class AshwakeMenuApiImpl implements AshwakeMenuApi {
             .thenComparing(ChangelogEntry::title);
 
     private static final AshwakeMenuApiImpl INSTANCE = new AshwakeMenuApiImpl();
+    private static final ForkJoinPool DISCOVERY_POOL = new ForkJoinPool(
+            DISCOVERY_PARALLELISM,
+            AshwakeMenuApiImpl::newDiscoveryThread,
+            null,
+            false);
 
     private final CopyOnWriteArrayList<MenuAction> menuActions = new CopyOnWriteArrayList<>();
     private final CopyOnWriteArrayList<GuidanceCard> guidanceCards = new CopyOnWriteArrayList<>();
     private final CopyOnWriteArrayList<ChangelogEntry> legacyChangelogEntries = new CopyOnWriteArrayList<>();
     private final CopyOnWriteArrayList<ChangelogEntry> autoDiscoveredChangelogEntries = new CopyOnWriteArrayList<>();
     private final CopyOnWriteArrayList<ChangelogProvider> changelogProviders = new CopyOnWriteArrayList<>();
+    private final CopyOnWriteArrayList<EmitterRegistration> particleEmitters = new CopyOnWriteArrayList<>();
 
     private final Object changelogCacheLock = new Object();
     private final Set<String> loggedProviderFailures = ConcurrentHashMap.newKeySet();
     private final Set<String> loggedAutoDiscoveryFailures = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger iconRevision = new AtomicInteger();
+    private final AtomicInteger particleEmitterRevision = new AtomicInteger();
+    private final AtomicInteger particleEmitterTokens = new AtomicInteger();
+    // Bumped whenever the changelog inputs change, so a build that raced an invalidation is not cached as current.
+    private final AtomicInteger changelogGeneration = new AtomicInteger();
 
     private volatile MenuContext menuContext = MenuContext.EMPTY;
     private volatile String badgeText = "";
@@ -69,6 +96,7 @@ public final class AshwakeMenuApiImpl implements AshwakeMenuApi {
     private volatile boolean autoDiscoveryScanned;
     private volatile String autoDiscoverySignature = "";
     private volatile String changelogModeSnapshot = "";
+    private CompletableFuture<AggregatedChangelog> pendingChangelog;
 
     private AshwakeMenuApiImpl() {
     }
@@ -86,6 +114,9 @@ public final class AshwakeMenuApiImpl implements AshwakeMenuApi {
         MenuAction safeAction = Objects.requireNonNull(action, "action");
         menuActions.removeIf(existing -> existing.id().equals(safeAction.id()));
         menuActions.add(safeAction);
+        if (!safeAction.iconTexture().isBlank()) {
+            iconRevision.incrementAndGet();
+        }
     }
 
     @Override
@@ -93,6 +124,9 @@ public final class AshwakeMenuApiImpl implements AshwakeMenuApi {
         GuidanceCard safeCard = Objects.requireNonNull(card, "card");
         guidanceCards.removeIf(existing -> existing.id().equals(safeCard.id()));
         guidanceCards.add(safeCard);
+        if (!safeCard.iconTexture().isBlank()) {
+            iconRevision.incrementAndGet();
+        }
     }
 
     @Override
@@ -108,6 +142,21 @@ public final class AshwakeMenuApiImpl implements AshwakeMenuApi {
         markChangelogDirty();
     }
 
+    @Override
+    public void registerParticleEmitter(ParticleEmitterSpec spec) {
+        ParticleEmitterSpec safeSpec = Objects.requireNonNull(spec, "spec");
+        particleEmitters.removeIf(existing -> existing.spec().id().equals(safeSpec.id()));
+        particleEmitters.add(new EmitterRegistration(safeSpec, particleEmitterTokens.incrementAndGet()));
+        particleEmitterRevision.incrementAndGet();
+    }
+
+    @Override
+    public void unregisterParticleEmitter(String id) {
+        if (id != null && particleEmitters.removeIf(existing -> existing.spec().id().equals(id))) {
+            particleEmitterRevision.incrementAndGet();
+        }
+    }
+
     @Override
     public AggregatedChangelog getAggregatedChangelog() {
         syncConfigSnapshot();
@@ -116,15 +165,58 @@ public final class AshwakeMenuApiImpl implements AshwakeMenuApi {
         if (!changelogDirty) {
             return cached;
         }
+        return getAggregatedChangelogAsync().join();
+    }
+
+    @Override
+    public CompletableFuture<AggregatedChangelog> getAggregatedChangelogAsync() {
+        syncConfigSnapshot();
 
         synchronized (changelogCacheLock) {
             if (!changelogDirty) {
-                return cachedChangelog;
+                return CompletableFuture.completedFuture(cachedChangelog);
             }
-            cachedChangelog = buildAggregatedChangelog();
-            changelogDirty = false;
-            return cachedChangelog;
+            if (pendingChangelog != null) {
+                return pendingChangelog;
+            }
+
+            int generation = changelogGeneration.get();
+            long startNs = System.nanoTime();
+            CompletableFuture<AggregatedChangelog> pending = CompletableFuture.supplyAsync(this::buildAggregatedChangelog, Util.backgroundExecutor());
+            pendingChangelog = pending;
+            pending.whenComplete((built, throwable) -> {
+                synchronized (changelogCacheLock) {
+                    if (pendingChangelog == pending) {
+                        pendingChangelog = null;
+                    }
+                    if (throwable != null) {
+                        AshwakeMainMenuMod.LOGGER.error("Ashwake changelog aggregation failed", throwable);
+                        return;
+                    }
+                    if (changelogGeneration.get() == generation) {
+                        cachedChangelog = built;
+                        changelogDirty = false;
+                    }
+                }
+                AshwakeMainMenuMod.LOGGER.debug(
+                        "Ashwake changelog aggregated off-thread: {} entries in {} ms",
+                        built == null ? 0 : built.entries().size(),
+                        (System.nanoTime() - startNs) / 1_000_000L);
+            });
+            return pending;
+        }
+    }
+
+    @Override
+    public Optional<AggregatedChangelog> getAggregatedChangelogIfReady() {
+        syncConfigSnapshot();
+
+        AggregatedChangelog cached = cachedChangelog;
+        if (!changelogDirty) {
+            return Optional.of(cached);
         }
+        getAggregatedChangelogAsync();
+        return Optional.empty();
     }
 
     @Override
@@ -156,6 +248,18 @@ public final class AshwakeMenuApiImpl implements AshwakeMenuApi {
         return ordered;
     }
 
+    public int iconRevision() {
+        return iconRevision.get();
+    }
+
+    public List<EmitterRegistration> getParticleEmitters() {
+        return List.copyOf(particleEmitters);
+    }
+
+    public int particleEmitterRevision() {
+        return particleEmitterRevision.get();
+    }
+
     public List<ChangelogEntry> getChangelogEntries() {
         return getAggregatedChangelog().entries();
     }
@@ -283,6 +387,7 @@ public final class AshwakeMenuApiImpl implements AshwakeMenuApi {
 
     public void invalidateChangelogCache(String reason) {
         synchronized (changelogCacheLock) {
+            changelogGeneration.incrementAndGet();
             changelogDirty = true;
             autoDiscoveryScanned = false;
             autoDiscoverySignature = "";
@@ -294,6 +399,7 @@ public final class AshwakeMenuApiImpl implements AshwakeMenuApi {
     }
 
     private void markChangelogDirty() {
+        changelogGeneration.incrementAndGet();
         changelogDirty = true;
     }
 
@@ -306,7 +412,7 @@ public final class AshwakeMenuApiImpl implements AshwakeMenuApi {
         synchronized (changelogCacheLock) {
             if (!currentMode.equals(changelogModeSnapshot)) {
                 changelogModeSnapshot = currentMode;
-                changelogDirty = true;
+                markChangelogDirty();
             }
         }
     }
@@ -319,17 +425,64 @@ public final class AshwakeMenuApiImpl implements AshwakeMenuApi {
 
         autoDiscoveredChangelogEntries.clear();
 
+        // Both halves of the key cost a few stats at most, so an unchanged mod list and pack stack skips the scan entirely.
+        String cacheKey = currentSignature + "|" + buildResourcePackFingerprint();
+        Optional<List<ChangelogEntry>> cachedEntries = AshwakeDiscoveryCache.read(cacheKey);
+        if (cachedEntries.isPresent()) {
+            autoDiscoveredChangelogEntries.addAll(cachedEntries.get());
+            AshwakeMainMenuMod.LOGGER.debug(
+                    "Ashwake changelog discovery: {} entries restored from disk cache",
+                    cachedEntries.get().size());
+            autoDiscoverySignature = currentSignature;
+            autoDiscoveryScanned = true;
+            return;
+        }
+
+        List<DiscoveryTarget> targets = new ArrayList<>();
         for (var modInfo : ModList.get().getMods()) {
             String fallbackModId = normalizeModId(modInfo.getModId());
             String fallbackModName = safeString(modInfo.getDisplayName(), fallbackModId);
             String fallbackVersion = safeString(modInfo.getVersion().toString(), "unknown");
-            readDiscoveredChangesFile(fallbackModId, fallbackModName, fallbackVersion);
+            targets.add(new DiscoveryTarget(fallbackModId, fallbackModName, fallbackVersion));
         }
+        long startNs = System.nanoTime();
+        autoDiscoveredChangelogEntries.addAll(discoverChangesFiles(targets, resourceChangesFiles()));
+        AshwakeMainMenuMod.LOGGER.debug(
+                "Ashwake changelog discovery scanned {} mods on {} threads in {} ms",
+                targets.size(),
+                DISCOVERY_PARALLELISM,
+                (System.nanoTime() - startNs) / 1_000_000L);
+        AshwakeDiscoveryCache.write(cacheKey, List.copyOf(autoDiscoveredChangelogEntries));
 
         autoDiscoverySignature = currentSignature;
         autoDiscoveryScanned = true;
     }
 
+    // Mods are probed in parallel; the ordered stream keeps the merge in mod-list order, matching a sequential scan.
+    List<ChangelogEntry> discoverChangesFiles(List<DiscoveryTarget> targets, ChangesFileSource source) {
+        List<List<ChangelogEntry>> perMod = DISCOVERY_POOL.submit(() -> targets.parallelStream()
+                .map(target -> readDiscoveredChangesFile(target, source))
+                .toList()).join();
+        List<ChangelogEntry> merged = new ArrayList<>();
+        for (List<ChangelogEntry> entries : perMod) {
+            merged.addAll(entries);
+        }
+        return merged;
+    }
+
+    private static ChangesFileSource resourceChangesFiles() {
+        Minecraft minecraft = Minecraft.getInstance();
+        if (minecraft == null || minecraft.getResourceManager() == null) {
+            return modId -> null;
+        }
+
+        ResourceManager resourceManager = minecraft.getResourceManager();
+        return modId -> {
+            Optional<Resource> resource = resourceManager.getResource(ResourceLocation.fromNamespaceAndPath(modId, MOD_CHANGELOG_PATH));
+            return resource.isPresent() ? resource.get().open() : null;
+        };
+    }
+
     private static String buildModSignature() {
         TreeMap<String, String> mods = new TreeMap<>();
         for (var modInfo : ModList.get().getMods()) {
@@ -341,70 +494,142 @@ public final class AshwakeMenuApiImpl implements AshwakeMenuApi {
         return signature.toString();
     }
 
-    private void readDiscoveredChangesFile(String fallbackModId, String fallbackModName, String fallbackVersion) {
+    // Pack ids plus size and mtime of what backs each user pack, so replacing or editing a pack misses the cache.
+    private static String buildResourcePackFingerprint() {
         Minecraft minecraft = Minecraft.getInstance();
         if (minecraft == null || minecraft.getResourceManager() == null) {
-            return;
+            return "";
         }
 
-        ResourceLocation location = ResourceLocation.fromNamespaceAndPath(fallbackModId, MOD_CHANGELOG_PATH);
-        var resourceOptional = minecraft.getResourceManager().getResource(location);
-        if (resourceOptional.isEmpty()) {
-            return;
-        }
-
-        Resource resource = resourceOptional.get();
-        try (InputStream stream = resource.open();
-                InputStreamReader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
-            JsonElement parsed = JsonParser.parseReader(reader);
-            if (!parsed.isJsonObject()) {
-                throw new IllegalStateException("Expected JSON object root");
+        Path packDirectory = minecraft.getResourcePackDirectory();
+        StringBuilder fingerprint = new StringBuilder();
+        minecraft.getResourceManager().listPacks().forEach(pack -> {
+            String packId = pack.packId();
+            fingerprint.append(packId);
+            if (packId.startsWith(FILE_PACK_PREFIX)) {
+                appendPackStamp(fingerprint, packDirectory.resolve(packId.substring(FILE_PACK_PREFIX.length())));
             }
+            fingerprint.append(';');
+        });
+        return fingerprint.toString();
+    }
 
-            JsonObject root = parsed.getAsJsonObject();
-            String sourceModId = normalizeModId(readString(root, "modId", fallbackModId));
-            String sourceModName = safeString(readString(root, "modName", fallbackModName), fallbackModName);
-            String sourceVersion = safeString(readString(root, "version", fallbackVersion), fallbackVersion);
-            long defaultTimestamp = readLong(root, "timestamp", 0L);
-
-            JsonArray entries = readArray(root, "entries");
-            if (entries == null) {
+    private static void appendPackStamp(StringBuilder fingerprint, Path pack) {
+        try {
+            if (!Files.isDirectory(pack)) {
+                appendFileStamp(fingerprint, pack);
                 return;
             }
-
-            int index = 0;
-            for (JsonElement entryElement : entries) {
-                if (!entryElement.isJsonObject()) {
-                    index++;
-                    continue;
+            // Editing a file inside a folder pack leaves the folder's own mtime alone, so stamp each changes.json.
+            Path assets = pack.resolve("assets");
+            if (!Files.isDirectory(assets)) {
+                return;
+            }
+            List<Path> namespaces = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(assets)) {
+                stream.forEach(namespaces::add);
+            }
+            namespaces.sort(Comparator.naturalOrder());
+            for (Path namespace : namespaces) {
+                Path changesFile = namespace.resolve(MOD_CHANGELOG_PATH);
+                if (Files.isRegularFile(changesFile)) {
+                    fingerprint.append(':').append(namespace.getFileName());
+                    appendFileStamp(fingerprint, changesFile);
                 }
+            }
+        } catch (IOException | RuntimeException exception) {
+            // Unreadable stamps just make this launch miss the cache.
+            fingerprint.append(":?").append(System.nanoTime());
+        }
+    }
 
-                JsonObject entry = entryElement.getAsJsonObject();
-                String category = readString(entry, "category", ChangelogEntry.Category.OTHER.name());
-                String title = readString(entry, "title", "Untitled update");
-                String body = readString(entry, "bodyMarkdown", readString(entry, "body", ""));
-                long timestamp = readLong(entry, "timestamp", defaultTimestamp);
-                int sortOrder = readInt(entry, "sortOrder", index);
-                autoDiscoveredChangelogEntries.add(new ChangelogEntry(
-                        sourceModId,
-                        sourceModName,
-                        sourceVersion,
-                        category,
-                        title,
-                        body,
-                        timestamp,
-                        sortOrder));
-                index++;
+    private static void appendFileStamp(StringBuilder fingerprint, Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        fingerprint.append(':')
+                .append(attributes.size())
+                .append(':')
+                .append(attributes.lastModifiedTime().toMillis());
+    }
+
+    List<ChangelogEntry> readDiscoveredChangesFile(DiscoveryTarget target, ChangesFileSource source) {
+        List<ChangelogEntry> discovered = new ArrayList<>();
+        try (InputStream stream = source.open(target.modId())) {
+            if (stream != null) {
+                parseChangesFile(
+                        new InputStreamReader(stream, StandardCharsets.UTF_8),
+                        target.modId(),
+                        target.modName(),
+                        target.version(),
+                        discovered);
             }
         } catch (IOException | RuntimeException exception) {
-            if (loggedAutoDiscoveryFailures.add(fallbackModId)) {
+            if (loggedAutoDiscoveryFailures.add(target.modId())) {
                 AshwakeMainMenuMod.LOGGER.warn(
                         "Ashwake auto-discovery failed for {}:{}",
-                        fallbackModId,
+                        target.modId(),
                         MOD_CHANGELOG_PATH,
                         exception);
             }
         }
+        // Entries read before a failure are kept rather than dropping the whole file.
+        return discovered;
+    }
+
+    static void parseChangesFile(
+            Reader reader,
+            String fallbackModId,
+            String fallbackModName,
+            String fallbackVersion,
+            List<ChangelogEntry> discovered) {
+        JsonElement parsed = JsonParser.parseReader(reader);
+        if (!parsed.isJsonObject()) {
+            throw new IllegalStateException("Expected JSON object root");
+        }
+
+        JsonObject root = parsed.getAsJsonObject();
+        String sourceModId = normalizeModId(readString(root, "modId", fallbackModId));
+        String sourceModName = safeString(readString(root, "modName", fallbackModName), fallbackModName);
+        String sourceVersion = safeString(readString(root, "version", fallbackVersion), fallbackVersion);
+        long defaultTimestamp = readLong(root, "timestamp", 0L);
+
+        JsonArray entries = readArray(root, "entries");
+        if (entries == null) {
+            return;
+        }
+
+        int index = 0;
+        for (JsonElement entryElement : entries) {
+            if (!entryElement.isJsonObject()) {
+                index++;
+                continue;
+            }
+
+            JsonObject entry = entryElement.getAsJsonObject();
+            String category = readString(entry, "category", ChangelogEntry.Category.OTHER.name());
+            String title = readString(entry, "title", "Untitled update");
+            String body = readString(entry, "bodyMarkdown", readString(entry, "body", ""));
+            long timestamp = readLong(entry, "timestamp", defaultTimestamp);
+            int sortOrder = readInt(entry, "sortOrder", index);
+            discovered.add(new ChangelogEntry(
+                    sourceModId,
+                    sourceModName,
+                    sourceVersion,
+                    category,
+                    title,
+                    body,
+                    timestamp,
+                    sortOrder));
+            index++;
+        }
+    }
+
+    private static ForkJoinWorkerThread newDiscoveryThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("Ashwake-Changelog-Discovery-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        // Mod classes and resources resolve through the mod class loader, not the JDK default for pool threads.
+        thread.setContextClassLoader(AshwakeMenuApiImpl.class.getClassLoader());
+        return thread;
     }
 
     private static String readString(JsonObject object, String key, String fallback) {
@@ -478,4 +703,17 @@ public final class AshwakeMenuApiImpl implements AshwakeMenuApi {
         }
         return cleaned;
     }
+
+    record DiscoveryTarget(String modId, String modName, String version) {
+    }
+
+    // Opens a mod's changes.json, or returns null when the mod ships none.
+    @FunctionalInterface
+    interface ChangesFileSource {
+        InputStream open(String modId) throws IOException;
+    }
+
+    // token is unique per registerParticleEmitter call, so registering the same spec again still counts as new.
+    public record EmitterRegistration(ParticleEmitterSpec spec, int token) {
+    }
 }
@@ -0,0 +1,63 @@
+package com.ashwake.mainmenu.client.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+// Run with ./gradlew test -Pbenchmark; skipped by the regular test run.
+@Tag("benchmark")
+class AshwakeMarkdownScannerBenchmark {
+    private static final int TARGET_CHARS = 10 * 1024 * 1024;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    @Test
+    void scanTenMegabytes() {
+        String text = document();
+        int expectedEvents = AshwakeMarkdownScannerTest.regexEvents(text).size();
+
+        double regex = best(() -> AshwakeMarkdownScannerTest.regexEvents(text).size(), expectedEvents);
+        double chars = best(() -> AshwakeMarkdownScannerTest.scannerEvents(text).size(), expectedEvents);
+        double reader = best(() -> AshwakeMarkdownScannerTest.readerEvents(new StringReader(text)).size(), expectedEvents);
+        double megabytes = text.length() / (1024.0 * 1024.0);
+        System.out.printf(
+                "Ashwake markdown scan of %.1f MB: regex %.1f ms (%.0f MB/s), CharSequence %.1f ms (%.0f MB/s), Reader %.1f ms (%.0f MB/s)%n",
+                megabytes,
+                regex,
+                megabytes / (regex / 1000.0),
+                chars,
+                megabytes / (chars / 1000.0),
+                reader,
+                megabytes / (reader / 1000.0));
+    }
+
+    private static double best(Supplier<Integer> scan, int expectedEvents) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            scan.get();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long startNs = System.nanoTime();
+            int events = scan.get();
+            best = Math.min(best, System.nanoTime() - startNs);
+            assertEquals(expectedEvents, events);
+        }
+        return best / 1_000_000.0;
+    }
+
+    private static String document() {
+        StringBuilder text = new StringBuilder(TARGET_CHARS + 256);
+        int release = 0;
+        while (text.length() < TARGET_CHARS) {
+            text.append("# Release ").append(release).append("\r\n\r\n");
+            text.append("## Highlights\n- Reworked the **ember** field and `flow` sampling\n* Faster [FAQ](faq) loading\n\n");
+            text.append("## Fixes\n1. Fixed a crash when the pack icon is missing\n2. Buttons no longer flicker on hover\n   \n");
+            text.append("Plain paragraph text describing release ").append(release).append(" in a little more detail.\n\n");
+            release++;
+        }
+        return text.toString();
+    }
+}
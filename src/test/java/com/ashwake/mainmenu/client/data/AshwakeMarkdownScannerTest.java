@@ -0,0 +1,201 @@
+package com.ashwake.mainmenu.client.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+// Checks the scanner against the split("\\R") / matches / replaceFirst parsing it replaced.
+class AshwakeMarkdownScannerTest {
+    private static final int READ_BUFFER = 8192;
+
+    @Test
+    void crlfSplitAcrossReaderBufferBoundary() {
+        String prefix = "- " + "x".repeat(READ_BUFFER - 3);
+        // '\r' is the last char of the first buffer, '\n' the first of the second.
+        String text = prefix + "\r\n## Next\r\n\r\n- after";
+        assertEquals('\r', text.charAt(READ_BUFFER - 1));
+
+        assertParity(text);
+        assertEquals(List.of("bullet:" + prefix.substring(2), "section:Next", "blank", "bullet:after"), scannerEvents(text));
+    }
+
+    @Test
+    void whitespaceOnlyTrailingLines() {
+        assertParity("## Fixes\n- one\n   \n\t\n");
+        assertParity("## Fixes\r\n- one\r\n \r\n\r\n");
+        assertParity("- one\n\n\n");
+        assertEquals(List.of("section:Fixes", "bullet:one", "blank", "blank"), scannerEvents("## Fixes\n- one\n   \n\t\n"));
+    }
+
+    @Test
+    void hashLinesWithoutSpace() {
+        assertParity("### Deep\n###\n#\n##\n#x\n##x\n# Title\n## Section");
+        assertEquals(List.of("paragraph:### Deep", "paragraph:###"), scannerEvents("### Deep\n###"));
+    }
+
+    @Test
+    void numberedLinesWithoutText() {
+        assertParity("1.\n1. \n2.x\n3. y\n10.\tz\n.5 z\n4 . w");
+        assertEquals(List.of("paragraph:1.", "numbered:3. y"), scannerEvents("1.\n3. y"));
+    }
+
+    @Test
+    void otherLineTerminators() {
+        assertParity("- a\u2028- b\u2029## c\u0085d\u000Be\u000Cf\rg");
+    }
+
+    @Test
+    void stripHelpersMatchRegex() {
+        for (String value : List.of("", "plain", "**bold** and __under__", "`code` [link](url)", "*", "_a_b_", " (x) ")) {
+            assertEquals(regexStripInline(value), AshwakeMarkdownScanner.stripInline(value), value);
+        }
+        for (String line : List.of("", "-", "*", "- a", "-\ta", "*   b", "--x", "-*", "a - b", "-\u000Bc")) {
+            assertEquals(line.replaceFirst("^[*-]\\s*", ""), AshwakeMarkdownScanner.stripBulletMarker(line), line);
+        }
+    }
+
+    @Test
+    void randomDocuments() {
+        String[] tokens = {"#", "##", "###", " ", "  ", "\t", "-", "*", "1", ".", "12", "a", "b c",
+                "\n", "\r", "\r\n", "\n\n", "\u2028", "_", "`", "[x](y)", "**"};
+        Random random = new Random(25L);
+        for (int n = 0; n < 20_000; n++) {
+            StringBuilder text = new StringBuilder();
+            int count = 1 + random.nextInt(30);
+            for (int i = 0; i < count; i++) {
+                text.append(tokens[random.nextInt(tokens.length)]);
+            }
+            assertParity(text.toString());
+        }
+    }
+
+    static void assertParity(String text) {
+        List<String> expected = regexEvents(text);
+        assertEquals(expected, scannerEvents(text), () -> "CharSequence scan of " + escape(text));
+        assertEquals(expected, readerEvents(new StringReader(text)), () -> "Reader scan of " + escape(text));
+        assertEquals(expected, readerEvents(new TrickleReader(text)), () -> "one-char Reader scan of " + escape(text));
+    }
+
+    // The parsing the scanner replaced; split drops trailing empty lines, as the scanner does.
+    static List<String> regexEvents(String text) {
+        List<String> events = new ArrayList<>();
+        if (text.isEmpty()) {
+            return events;
+        }
+        for (String raw : text.split("\\R")) {
+            String line = raw.trim();
+            if (line.isEmpty()) {
+                events.add("blank");
+            } else if (line.startsWith("## ")) {
+                events.add("section:" + line.substring(3).trim());
+            } else if (line.startsWith("# ")) {
+                events.add("title:" + line.substring(2).trim());
+            } else if (line.startsWith("- ") || line.startsWith("* ")) {
+                events.add("bullet:" + line.replaceFirst("^[*-]\\s*", ""));
+            } else if (line.matches("^\\d+\\.\\s+.*")) {
+                events.add("numbered:" + line);
+            } else {
+                events.add("paragraph:" + line);
+            }
+        }
+        return events;
+    }
+
+    static List<String> scannerEvents(CharSequence text) {
+        List<String> events = new ArrayList<>();
+        AshwakeMarkdownScanner.scan(text, recorder(events));
+        return events;
+    }
+
+    static List<String> readerEvents(Reader reader) {
+        List<String> events = new ArrayList<>();
+        try {
+            AshwakeMarkdownScanner.scan(reader, recorder(events));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return events;
+    }
+
+    private static AshwakeMarkdownScanner.Visitor recorder(List<String> events) {
+        return new AshwakeMarkdownScanner.Visitor() {
+            @Override
+            public void title(String text) {
+                events.add("title:" + text);
+            }
+
+            @Override
+            public void section(String title) {
+                events.add("section:" + title);
+            }
+
+            @Override
+            public void bullet(String text) {
+                events.add("bullet:" + text);
+            }
+
+            @Override
+            public void numbered(String line) {
+                events.add("numbered:" + line);
+            }
+
+            @Override
+            public void paragraph(String text) {
+                events.add("paragraph:" + text);
+            }
+
+            @Override
+            public void blank() {
+                events.add("blank");
+            }
+        };
+    }
+
+    private static String regexStripInline(String value) {
+        return value.replace("`", "")
+                .replace("*", "")
+                .replace("_", "")
+                .replace("[", "")
+                .replace("]", "")
+                .replace("(", "")
+                .replace(")", "")
+                .trim();
+    }
+
+    private static String escape(String text) {
+        return text.replace("\r", "\\r").replace("\n", "\\n");
+    }
+
+    // Hands out one char per read, so every line break lands on a read boundary.
+    private static final class TrickleReader extends Reader {
+        private final String text;
+        private int position;
+
+        TrickleReader(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (position >= text.length()) {
+                return -1;
+            }
+            if (length == 0) {
+                return 0;
+            }
+            buffer[offset] = text.charAt(position++);
+            return 1;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.ashwake.mainmenu.client.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AshwakeRemoteChangelogTest {
+    private static final String BODY = "## Highlights\n- Remote notes\n";
+    private static final String ETAG = "\"v1\"";
+    private static final int TTL_HOURS = 1;
+    private static final long HOUR_MILLIS = 3_600_000L;
+
+    @TempDir
+    Path cacheDirectory;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final List<String> ifNoneMatch = new CopyOnWriteArrayList<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile byte[] served = BODY.getBytes(StandardCharsets.UTF_8);
+    private volatile boolean chunked;
+    private HttpServer server;
+    private String url;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/changelog.md", this::serve);
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/changelog.md";
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void firstFetchServesAndPersistsTheBody() throws Exception {
+        CountingExecutor executor = new CountingExecutor();
+        AshwakeRemoteChangelog changelog = new AshwakeRemoteChangelog(client, cacheDirectory, executor, clock::get);
+
+        assertEquals(Optional.empty(), changelog.current(url, TTL_HOURS));
+        // One task for the disk load, one for the response.
+        executor.await(2);
+
+        assertEquals(Optional.of(BODY), changelog.current(url, TTL_HOURS));
+        assertEquals(1, changelog.revision());
+        assertEquals(1, requests.get());
+        assertEquals(BODY, Files.readString(cacheDirectory.resolve("remote_changelog.md")));
+    }
+
+    @Test
+    void expiredCopyRevalidatesWithEtag() throws Exception {
+        CountingExecutor executor = new CountingExecutor();
+        AshwakeRemoteChangelog changelog = new AshwakeRemoteChangelog(client, cacheDirectory, executor, clock::get);
+        changelog.current(url, TTL_HOURS);
+        executor.await(2);
+
+        clock.addAndGet(2 * HOUR_MILLIS);
+        assertEquals(Optional.of(BODY), changelog.current(url, TTL_HOURS));
+        executor.await(3);
+
+        assertEquals(2, requests.get());
+        assertEquals(ETAG, ifNoneMatch.get(1));
+        assertEquals(Optional.of(BODY), changelog.current(url, TTL_HOURS));
+        // A 304 keeps the body, so screens are not asked to rebuild.
+        assertEquals(1, changelog.revision());
+    }
+
+    @Test
+    void freshCopyReloadsFromDiskWithoutARequest() throws Exception {
+        CountingExecutor first = new CountingExecutor();
+        new AshwakeRemoteChangelog(client, cacheDirectory, first, clock::get).current(url, TTL_HOURS);
+        first.await(2);
+
+        CountingExecutor second = new CountingExecutor();
+        AshwakeRemoteChangelog reloaded = new AshwakeRemoteChangelog(client, cacheDirectory, second, clock::get);
+        assertEquals(Optional.empty(), reloaded.current(url, TTL_HOURS));
+        second.await(1);
+
+        assertEquals(Optional.of(BODY), reloaded.current(url, TTL_HOURS));
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void serverDownKeepsServingTheCachedCopy() throws Exception {
+        CountingExecutor first = new CountingExecutor();
+        new AshwakeRemoteChangelog(client, cacheDirectory, first, clock::get).current(url, TTL_HOURS);
+        first.await(2);
+        server.stop(0);
+
+        clock.addAndGet(2 * HOUR_MILLIS);
+        CountingExecutor second = new CountingExecutor();
+        AshwakeRemoteChangelog offline = new AshwakeRemoteChangelog(client, cacheDirectory, second, clock::get);
+        offline.current(url, TTL_HOURS);
+        // Disk load, then the failed refresh.
+        second.await(2);
+
+        assertEquals(Optional.of(BODY), offline.current(url, TTL_HOURS));
+        // The failure backs off, so the next call does not start another request.
+        assertEquals(2, second.completed.get());
+    }
+
+    @Test
+    void serverDownWithoutCacheStaysEmpty() throws Exception {
+        server.stop(0);
+        CountingExecutor executor = new CountingExecutor();
+        AshwakeRemoteChangelog changelog = new AshwakeRemoteChangelog(client, cacheDirectory, executor, clock::get);
+        changelog.current(url, TTL_HOURS);
+        executor.await(2);
+
+        assertEquals(Optional.empty(), changelog.current(url, TTL_HOURS));
+        assertEquals(0, changelog.revision());
+    }
+
+    @Test
+    void oversizedBodyIsRejected() throws Exception {
+        served = new byte[600 * 1024];
+        for (boolean streamed : new boolean[] {false, true}) {
+            chunked = streamed;
+            CountingExecutor executor = new CountingExecutor();
+            AshwakeRemoteChangelog changelog = new AshwakeRemoteChangelog(client, cacheDirectory, executor, clock::get);
+            changelog.current(url, TTL_HOURS);
+            executor.await(2);
+
+            assertEquals(Optional.empty(), changelog.current(url, TTL_HOURS));
+            assertTrue(Files.notExists(cacheDirectory.resolve("remote_changelog.md")));
+        }
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        String etag = exchange.getRequestHeaders().getFirst("If-None-Match");
+        ifNoneMatch.add(etag == null ? "" : etag);
+        exchange.getResponseHeaders().set("ETag", ETAG);
+        if (ETAG.equals(etag)) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        byte[] body = served;
+        exchange.sendResponseHeaders(200, chunked ? 0 : body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        } catch (IOException ignored) {
+            // The client hangs up on oversized bodies.
+        }
+    }
+
+    // Runs tasks inline and counts them, so tests can wait for the async response handling to finish.
+    private static final class CountingExecutor implements Executor {
+        private final AtomicInteger completed = new AtomicInteger();
+
+        @Override
+        public void execute(Runnable command) {
+            try {
+                command.run();
+            } finally {
+                synchronized (this) {
+                    completed.incrementAndGet();
+                    notifyAll();
+                }
+            }
+        }
+
+        synchronized void await(int tasks) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (completed.get() < tasks) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                assertTrue(remaining > 0, "timed out waiting for " + tasks + " tasks");
+                wait(remaining);
+            }
+        }
+    }
+}
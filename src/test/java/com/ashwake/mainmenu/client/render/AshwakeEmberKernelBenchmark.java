@@ -0,0 +1,144 @@
+package com.ashwake.mainmenu.client.render;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Random;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+// Run with ./gradlew test -Pbenchmark; skipped by the regular test run.
+// The kernels are called directly so sizes past AshwakeEmberSystem's 8192 cap can be measured.
+@Tag("benchmark")
+class AshwakeEmberKernelBenchmark {
+    private static final int[] SIZES = {450, 4_000, 40_000};
+    private static final int WIDTH = 1920;
+    private static final int HEIGHT = 1080;
+    private static final float DT = 1.0F / 30.0F;
+    private static final int STEPS = 200;
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 20;
+
+    @Test
+    void integrateCost() {
+        boolean vector = AshwakeEmberKernel.vectorized();
+        for (int size : SIZES) {
+            Particles template = Particles.random(size, new Random(size));
+            Particles scalarState = template.copy();
+            Particles vectorState = template.copy();
+
+            double scalar = bestNanosPerStep(template, scalarState, false);
+            if (!vector) {
+                System.out.printf("Ashwake ember kernel, %d embers: scalar %.0f ns/step, vector unavailable%n", size, scalar);
+                continue;
+            }
+            double vectorized = bestNanosPerStep(template, vectorState, true);
+            // Both kernels have to agree on which embers survive and where; dead slots may differ.
+            assertArrayEquals(scalarState.active, vectorState.active);
+            assertArrayEquals(scalarState.livePositions(), vectorState.livePositions());
+            System.out.printf(
+                    "Ashwake ember kernel, %d embers: scalar %.0f ns/step, vector %.0f ns/step (%.2fx), %d lanes%n",
+                    size,
+                    scalar,
+                    vectorized,
+                    scalar / vectorized,
+                    AshwakeEmberVectorKernel.lanes());
+        }
+    }
+
+    private static double bestNanosPerStep(Particles template, Particles state, boolean vector) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            state.reset(template);
+            steps(state, vector);
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            state.reset(template);
+            long startNs = System.nanoTime();
+            steps(state, vector);
+            best = Math.min(best, System.nanoTime() - startNs);
+        }
+        return best / (double) STEPS;
+    }
+
+    private static void steps(Particles p, boolean vector) {
+        for (int step = 0; step < STEPS; step++) {
+            int start = 0;
+            if (vector) {
+                start = AshwakeEmberVectorKernel.integrate(
+                        p.active, p.x, p.y, p.prevX, p.prevY, p.vx, p.vy, p.life, p.maxLife, p.count, DT, WIDTH, HEIGHT);
+            }
+            AshwakeEmberKernel.integrateScalar(
+                    p.active, p.x, p.y, p.prevX, p.prevY, p.vx, p.vy, p.life, p.maxLife, start, p.count, DT, WIDTH, HEIGHT);
+        }
+    }
+
+    private static final class Particles {
+        final int count;
+        final boolean[] active;
+        final float[] x;
+        final float[] y;
+        final float[] prevX;
+        final float[] prevY;
+        final float[] vx;
+        final float[] vy;
+        final float[] life;
+        final float[] maxLife;
+
+        Particles(int count) {
+            this.count = count;
+            active = new boolean[count];
+            x = new float[count];
+            y = new float[count];
+            prevX = new float[count];
+            prevY = new float[count];
+            vx = new float[count];
+            vy = new float[count];
+            life = new float[count];
+            maxLife = new float[count];
+        }
+
+        // Roughly the menu's spread: most embers survive the run, some expire or drift off screen.
+        static Particles random(int count, Random random) {
+            Particles p = new Particles(count);
+            for (int i = 0; i < count; i++) {
+                p.active[i] = random.nextFloat() < 0.9F;
+                p.x[i] = random.nextFloat() * WIDTH;
+                p.y[i] = random.nextFloat() * HEIGHT;
+                p.vx[i] = (random.nextFloat() - 0.5F) * 24.0F;
+                p.vy[i] = -8.0F - random.nextFloat() * 30.0F;
+                p.life[i] = random.nextFloat() * 2.0F;
+                p.maxLife[i] = 4.0F + random.nextFloat() * 8.0F;
+            }
+            return p;
+        }
+
+        float[] livePositions() {
+            float[] positions = new float[count * 2];
+            for (int i = 0; i < count; i++) {
+                if (active[i]) {
+                    positions[i * 2] = x[i];
+                    positions[i * 2 + 1] = y[i];
+                }
+            }
+            return positions;
+        }
+
+        Particles copy() {
+            Particles p = new Particles(count);
+            p.reset(this);
+            return p;
+        }
+
+        void reset(Particles source) {
+            System.arraycopy(source.active, 0, active, 0, count);
+            System.arraycopy(source.x, 0, x, 0, count);
+            System.arraycopy(source.y, 0, y, 0, count);
+            System.arraycopy(source.prevX, 0, prevX, 0, count);
+            System.arraycopy(source.prevY, 0, prevY, 0, count);
+            System.arraycopy(source.vx, 0, vx, 0, count);
+            System.arraycopy(source.vy, 0, vy, 0, count);
+            System.arraycopy(source.life, 0, life, 0, count);
+            System.arraycopy(source.maxLife, 0, maxLife, 0, count);
+        }
+    }
+}
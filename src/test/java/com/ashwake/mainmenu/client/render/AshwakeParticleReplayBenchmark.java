@@ -0,0 +1,44 @@
+package com.ashwake.mainmenu.client.render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.ashwake.mainmenu.client.render.AshwakeParticleReplay.Frame;
+import com.ashwake.mainmenu.client.render.AshwakeParticleReplay.Result;
+import com.ashwake.mainmenu.client.render.AshwakeParticleReplay.Settings;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+// Run with ./gradlew test -Pbenchmark; skipped by the regular test run.
+@Tag("benchmark")
+class AshwakeParticleReplayBenchmark {
+    private static final Settings HIGH = new Settings(1920, 1080, 90, 0.9F, false, 30, 1600);
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 10;
+
+    @Test
+    void replayCost() {
+        List<Frame> timeline = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            timeline.addAll(AshwakeParticleReplayTest.hoverAndClick());
+        }
+
+        long expectedHash = AshwakeParticleReplay.run(99L, timeline, HIGH).stateHash();
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            AshwakeParticleReplay.run(99L, timeline, HIGH);
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            Result result = AshwakeParticleReplay.run(99L, timeline, HIGH);
+            assertEquals(expectedHash, result.stateHash());
+            best = Math.min(best, result.elapsedNanos());
+        }
+        System.out.printf(
+                "Ashwake particle replay: %d frames, best %.3f ms (%.2f us/frame), vector kernel %s%n",
+                timeline.size(),
+                best / 1_000_000.0,
+                best / 1_000.0 / timeline.size(),
+                AshwakeEmberKernel.vectorized());
+    }
+}
@@ -0,0 +1,115 @@
+package com.ashwake.mainmenu.client.render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import com.ashwake.mainmenu.client.render.AshwakeParticleReplay.Frame;
+import com.ashwake.mainmenu.client.render.AshwakeParticleReplay.Result;
+import com.ashwake.mainmenu.client.render.AshwakeParticleReplay.Settings;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import org.junit.jupiter.api.Test;
+
+class AshwakeParticleReplayTest {
+    private static final long FRAME_60 = 16_666_667L;
+    private static final long FRAME_30 = 33_333_333L;
+    private static final Settings MEDIUM = new Settings(854, 480, 55, 0.7F, false, 30, 450);
+    private static final Settings REDUCED = new Settings(854, 480, 15, 0.35F, true, 30, 200);
+
+    // Golden values pin the full ember and hover state; update them only for intentional simulation changes.
+    private static final long GOLDEN_IDLE_HASH = 6937022857942592885L;
+    private static final int GOLDEN_IDLE_EMBERS = 44;
+    private static final int GOLDEN_IDLE_HOVER = 0;
+    private static final long GOLDEN_HOVER_HASH = 498975867969211984L;
+    private static final int GOLDEN_HOVER_EMBERS = 57;
+    private static final int GOLDEN_HOVER_HOVER = 26;
+    private static final long GOLDEN_REDUCED_HASH = -9198560447771399792L;
+    private static final int GOLDEN_REDUCED_EMBERS = 6;
+    private static final int GOLDEN_REDUCED_HOVER = 20;
+
+    @Test
+    void idleMenuMatchesGoldenState() {
+        assertGolden(run(1L, idle(600, FRAME_60), MEDIUM), GOLDEN_IDLE_HASH, GOLDEN_IDLE_EMBERS, GOLDEN_IDLE_HOVER);
+    }
+
+    @Test
+    void hoverAndClickMatchesGoldenState() {
+        assertGolden(run(42L, hoverAndClick(), MEDIUM), GOLDEN_HOVER_HASH, GOLDEN_HOVER_EMBERS, GOLDEN_HOVER_HOVER);
+    }
+
+    @Test
+    void reducedMotionMatchesGoldenState() {
+        assertGolden(run(7L, hoverAndClick(), REDUCED), GOLDEN_REDUCED_HASH, GOLDEN_REDUCED_EMBERS, GOLDEN_REDUCED_HOVER);
+    }
+
+    @Test
+    void sameInputsReplayIdentically() {
+        List<Frame> timeline = hoverAndClick();
+        assertEquals(run(1234L, timeline, MEDIUM).stateHash(), run(1234L, timeline, MEDIUM).stateHash());
+    }
+
+    @Test
+    void seedChangesState() {
+        List<Frame> timeline = idle(300, FRAME_60);
+        assertNotEquals(run(1L, timeline, MEDIUM).stateHash(), run(2L, timeline, MEDIUM).stateHash());
+    }
+
+    // The golden values assume RandomSource.create(seed) is the legacy java.util.Random LCG; a Minecraft
+    // update that changes it fails here first instead of as an unexplained hash mismatch.
+    @Test
+    void randomSourceIsTheLegacyLcg() {
+        RandomSource random = RandomSource.create(42L);
+        Random reference = new Random(42L);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(reference.nextFloat(), random.nextFloat());
+            assertEquals(reference.nextInt(37), random.nextInt(37));
+            assertEquals(reference.nextInt(64), random.nextInt(64));
+        }
+    }
+
+    @Test
+    void mthMatchesTheArithmeticTheGoldensAssume() {
+        assertEquals(-1, Mth.floor(-0.5F));
+        assertEquals(2, Mth.floor(2.999F));
+        assertEquals(-3, Mth.floor(-3.0D));
+        assertEquals(0.3F + 0.7F * (1.9F - 0.3F), Mth.lerp(0.7F, 0.3F, 1.9F));
+        assertEquals(0.0F, Mth.clamp(-0.25F, 0.0F, 1.0F));
+        assertEquals(8, Mth.clamp(20, 0, 8));
+    }
+
+    static Result run(long seed, List<Frame> timeline, Settings settings) {
+        return AshwakeParticleReplay.run(seed, timeline, settings);
+    }
+
+    static List<Frame> idle(int frames, long frameNanos) {
+        List<Frame> timeline = new ArrayList<>(frames);
+        for (int i = 0; i < frames; i++) {
+            timeline.add(new Frame(frameNanos, false, false));
+        }
+        return timeline;
+    }
+
+    // Idle, hover with a click, a frame hitch, a second click, then leave while particles are still alive.
+    // Mixes 60 and 30 fps frames.
+    static List<Frame> hoverAndClick() {
+        List<Frame> timeline = new ArrayList<>(idle(60, FRAME_60));
+        for (int i = 0; i < 120; i++) {
+            timeline.add(new Frame(i % 3 == 0 ? FRAME_30 : FRAME_60, true, i == 45));
+        }
+        timeline.add(new Frame(250_000_000L, true, false));
+        for (int i = 0; i < 20; i++) {
+            timeline.add(new Frame(FRAME_60, true, i == 12));
+        }
+        timeline.addAll(idle(6, FRAME_60));
+        return timeline;
+    }
+
+    private static void assertGolden(Result result, long hash, int embers, int hoverParticles) {
+        assertEquals(embers, result.embers(), "embers");
+        assertEquals(hoverParticles, result.hoverParticles(), "hover particles");
+        assertEquals(hash, result.stateHash(), "state hash");
+    }
+}
@@ -0,0 +1,98 @@
+package com.ashwake.mainmenu.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.ashwake.mainmenu.api.ChangelogEntry;
+import com.ashwake.mainmenu.internal.AshwakeMenuApiImpl.ChangesFileSource;
+import com.ashwake.mainmenu.internal.AshwakeMenuApiImpl.DiscoveryTarget;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// Run with ./gradlew test -Pbenchmark; skipped by the regular test run.
+// Files live in a temp directory so each mod pays a lookup and an open, like a resource manager probe.
+@Tag("benchmark")
+class AshwakeChangelogDiscoveryBenchmark {
+    private static final int MOD_COUNT = 500;
+    // Most mods in a real pack ship no changes.json; their probe is a failed lookup.
+    private static final int PRESENT_EVERY = 5;
+    private static final int ENTRIES_PER_MOD = 12;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 10;
+
+    @TempDir
+    Path resources;
+
+    @Test
+    void discoveryCost() throws IOException {
+        AshwakeMenuApiImpl api = AshwakeMenuApiImpl.getInstance();
+        List<DiscoveryTarget> mods = new ArrayList<>();
+        int present = 0;
+        for (int i = 0; i < MOD_COUNT; i++) {
+            String modId = "mod" + i;
+            mods.add(new DiscoveryTarget(modId, "Mod " + i, "1." + i + ".0"));
+            if (i % PRESENT_EVERY == 0) {
+                Path file = resources.resolve(modId).resolve("changes.json");
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, changesJson(i));
+                present++;
+            }
+        }
+        ChangesFileSource source = modId -> {
+            Path file = resources.resolve(modId).resolve("changes.json");
+            return Files.isRegularFile(file) ? Files.newInputStream(file) : null;
+        };
+
+        List<ChangelogEntry> expected = sequential(api, mods, source);
+        assertEquals(present * ENTRIES_PER_MOD, expected.size());
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            sequential(api, mods, source);
+            api.discoverChangesFiles(mods, source);
+        }
+
+        long bestSequential = Long.MAX_VALUE;
+        long bestParallel = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long startNs = System.nanoTime();
+            sequential(api, mods, source);
+            bestSequential = Math.min(bestSequential, System.nanoTime() - startNs);
+
+            startNs = System.nanoTime();
+            List<ChangelogEntry> parallel = api.discoverChangesFiles(mods, source);
+            bestParallel = Math.min(bestParallel, System.nanoTime() - startNs);
+            // The parallel scan has to merge in mod-list order, exactly like the sequential one.
+            assertEquals(expected, parallel);
+        }
+        System.out.printf(
+                "Ashwake changelog discovery: %d mods (%d with changes.json), sequential best %.3f ms, parallel best %.3f ms%n",
+                MOD_COUNT,
+                present,
+                bestSequential / 1_000_000.0,
+                bestParallel / 1_000_000.0);
+    }
+
+    private static List<ChangelogEntry> sequential(AshwakeMenuApiImpl api, List<DiscoveryTarget> mods, ChangesFileSource source) {
+        return mods.stream().map(mod -> api.readDiscoveredChangesFile(mod, source)).flatMap(List::stream).toList();
+    }
+
+    private static String changesJson(int mod) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"modId\":\"mod").append(mod).append("\",\"timestamp\":1700000000000,\"entries\":[");
+        for (int i = 0; i < ENTRIES_PER_MOD; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"category\":\"")
+                    .append(ChangelogEntry.Category.values()[i % ChangelogEntry.Category.values().length].name())
+                    .append("\",\"title\":\"Change ").append(i)
+                    .append("\",\"bodyMarkdown\":\"- Adjusted **item** ").append(i).append(" for mod ").append(mod)
+                    .append("\\n- Fixed a crash when the config is missing\"}");
+        }
+        return json.append("]}").toString();
+    }
+}
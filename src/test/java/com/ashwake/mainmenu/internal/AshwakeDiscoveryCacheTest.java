@@ -0,0 +1,75 @@
+package com.ashwake.mainmenu.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ashwake.mainmenu.api.ChangelogEntry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AshwakeDiscoveryCacheTest {
+    private static final String KEY = "ashwake@1.0.0;examplemod@2.1;|vanilla;mod_resources;file/Pack.zip:4096:1700000000000;";
+    private static final List<ChangelogEntry> ENTRIES = List.of(
+            new ChangelogEntry("examplemod", "Example Mod", "2.1", ChangelogEntry.Category.FIXES, "Fixed a crash", "- Details", 1_700_000_000_000L, 0),
+            new ChangelogEntry("examplemod", "Example Mod", "2.1", ChangelogEntry.Category.HIGHLIGHTS, "\u00dcn\u00efc\u00f6d\u00e9 title", "", 0L, 3));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripsEntries() {
+        AshwakeDiscoveryCache.write(directory, KEY, ENTRIES);
+
+        assertEquals(Optional.of(ENTRIES), AshwakeDiscoveryCache.read(directory, KEY));
+    }
+
+    @Test
+    void missingFileIsAMiss() {
+        assertEquals(Optional.empty(), AshwakeDiscoveryCache.read(directory, KEY));
+    }
+
+    @Test
+    void differentKeyIsAMissButKeepsTheFile() {
+        AshwakeDiscoveryCache.write(directory, KEY, ENTRIES);
+
+        assertEquals(Optional.empty(), AshwakeDiscoveryCache.read(directory, KEY + "file/Other.zip;"));
+        assertTrue(Files.exists(cacheFile()));
+    }
+
+    @Test
+    void flippedByteIsDeletedAndRebuilt() throws IOException {
+        AshwakeDiscoveryCache.write(directory, KEY, ENTRIES);
+        byte[] bytes = Files.readAllBytes(cacheFile());
+        bytes[bytes.length / 2] ^= 0x10;
+        Files.write(cacheFile(), bytes);
+
+        assertCorruptFileIsDeletedAndRebuilt();
+    }
+
+    @Test
+    void truncatedFileIsDeletedAndRebuilt() throws IOException {
+        AshwakeDiscoveryCache.write(directory, KEY, ENTRIES);
+        byte[] bytes = Files.readAllBytes(cacheFile());
+        Files.write(cacheFile(), Arrays.copyOf(bytes, bytes.length - 11));
+
+        assertCorruptFileIsDeletedAndRebuilt();
+    }
+
+    private void assertCorruptFileIsDeletedAndRebuilt() {
+        assertEquals(Optional.empty(), AshwakeDiscoveryCache.read(directory, KEY));
+        assertTrue(Files.notExists(cacheFile()));
+
+        AshwakeDiscoveryCache.write(directory, KEY, ENTRIES);
+        assertEquals(Optional.of(ENTRIES), AshwakeDiscoveryCache.read(directory, KEY));
+    }
+
+    private Path cacheFile() {
+        return directory.resolve(AshwakeDiscoveryCache.FILE_NAME);
+    }
+}
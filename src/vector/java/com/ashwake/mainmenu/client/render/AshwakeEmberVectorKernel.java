@@ -0,0 +1,71 @@
+package com.ashwake.mainmenu.client.render;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Only loaded after AshwakeEmberKernel has confirmed the incubator module is present.
+final class AshwakeEmberVectorKernel {
+    private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+
+    private AshwakeEmberVectorKernel() {
+    }
+
+    static int lanes() {
+        return FLOATS.length();
+    }
+
+    // Returns the first index left for the scalar tail.
+    static int integrate(
+            boolean[] active,
+            float[] x,
+            float[] y,
+            float[] prevX,
+            float[] prevY,
+            float[] vx,
+            float[] vy,
+            float[] life,
+            float[] maxLife,
+            int count,
+            float dt,
+            int width,
+            int height) {
+        float minX = -4F;
+        float maxX = width + 4F;
+        float minY = -6F;
+        float maxY = height + 6F;
+        int upper = FLOATS.loopBound(count);
+        int i = 0;
+        for (; i < upper; i += FLOATS.length()) {
+            VectorMask<Float> live = VectorMask.fromArray(FLOATS, active, i);
+            if (!live.anyTrue()) {
+                continue;
+            }
+
+            FloatVector lifeV = FloatVector.fromArray(FLOATS, life, i).add(dt);
+            live = live.and(lifeV.lt(FloatVector.fromArray(FLOATS, maxLife, i)));
+
+            FloatVector xV = FloatVector.fromArray(FLOATS, x, i);
+            FloatVector yV = FloatVector.fromArray(FLOATS, y, i);
+            FloatVector vxV = FloatVector.fromArray(FLOATS, vx, i);
+            FloatVector vyV = FloatVector.fromArray(FLOATS, vy, i);
+            FloatVector nextX = xV.add(vxV.mul(dt));
+            FloatVector nextY = yV.add(vyV.mul(dt));
+
+            live = live.and(nextX.compare(VectorOperators.GE, minX))
+                    .and(nextX.compare(VectorOperators.LE, maxX))
+                    .and(nextY.compare(VectorOperators.GE, minY))
+                    .and(nextY.compare(VectorOperators.LE, maxY));
+
+            // Dead lanes are written too; their slots are fully reinitialised on spawn.
+            lifeV.intoArray(life, i);
+            xV.intoArray(prevX, i);
+            yV.intoArray(prevY, i);
+            nextX.intoArray(x, i);
+            nextY.intoArray(y, i);
+            live.intoArray(active, i);
+        }
+        return i;
+    }
+}